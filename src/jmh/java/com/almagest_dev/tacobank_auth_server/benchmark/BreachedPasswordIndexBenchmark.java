@@ -0,0 +1,98 @@
+package com.almagest_dev.tacobank_auth_server.benchmark;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.BreachedPasswordIndex;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.BreachedPasswordIndexBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유출 비밀번호 인덱스 조회 (SHA-1 + 메모리 매핑 이진 탐색)
+ *  - records 건의 무작위 해시로 인덱스 생성 후 포함/미포함 비밀번호 조회
+ *  - 실행: ./gradlew jmh (힙 사용량 비교는 build.gradle jmh 블록에 profilers = ['gc'] 추가)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BreachedPasswordIndexBenchmark {
+    private static final int PASSWORDS = 1024;
+
+    @Param({"1000000", "20000000"})
+    public int records;
+
+    private Path dir;
+    private BreachedPasswordIndex index;
+    private final String[] breached = new String[PASSWORDS];
+    private final String[] safe = new String[PASSWORDS];
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("breached-benchmark");
+        Path input = dir.resolve("hashes.txt");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HexFormat hex = HexFormat.of();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(input)) {
+            for (int i = 0; i < PASSWORDS; i++) {
+                breached[i] = "breached-" + i;
+                safe[i] = "safe-" + i;
+                writer.write(hex.formatHex(sha1(breached[i])));
+                writer.newLine();
+            }
+            byte[] hash = new byte[20];
+            for (int i = PASSWORDS; i < records; i++) {
+                random.nextBytes(hash);
+                writer.write(hex.formatHex(hash));
+                writer.newLine();
+            }
+        }
+
+        Path output = dir.resolve("breached.idx");
+        new BreachedPasswordIndexBuilder(1 << 22).build(input, output);
+        Files.delete(input);
+        index = new BreachedPasswordIndex(output.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index = null;
+        Files.deleteIfExists(dir.resolve("breached.idx"));
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public boolean breached() {
+        return index.contains(breached[cursor++ & (PASSWORDS - 1)]);
+    }
+
+    @Benchmark
+    public boolean safe() {
+        return index.contains(safe[cursor++ & (PASSWORDS - 1)]);
+    }
+
+    private static byte[] sha1(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.almagest_dev.tacobank_auth_server.benchmark;
+
+import com.almagest_dev.tacobank_auth_server.LegacyPasswordValidator;
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.PasswordPolicy;
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.PasswordViolations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 규칙 검사 - 기존 정규식 구현 vs PasswordPolicy (단일 순회)
+ *  - 실행: ./gradlew jmh (할당량 비교는 build.gradle jmh 블록에 profilers = ['gc'] 추가)
+ *  - valid: 모든 규칙 통과 (기존 구현도 모든 규칙 검사), sequential: 마지막 규칙 위반
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PasswordPolicyBenchmark {
+    private static final int MIN_LENGTH = 8;
+    private static final String BIRTH = "1990-01-01";
+    private static final String TEL = "010-1234-5678";
+    private static final PasswordPolicy POLICY = PasswordPolicy.standard(MIN_LENGTH);
+
+    @Param({"valid", "sequential"})
+    public String scenario;
+
+    private String password;
+
+    @Setup
+    public void setUp() {
+        password = "valid".equals(scenario) ? "tacoBank_2024!Pw" : "tacoBank_789!Pw";
+    }
+
+    @Benchmark
+    public String legacy() {
+        try {
+            LegacyPasswordValidator.validatePassword(password, MIN_LENGTH, BIRTH, TEL);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public PasswordViolations policy() {
+        return POLICY.validate(password, BIRTH, TEL);
+    }
+}
@@ -3,12 +3,14 @@ package com.almagest_dev.tacobank_auth_server;
 import jakarta.annotation.PostConstruct;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.io.File;
 
 @SpringBootApplication
 @EnableScheduling
+@EnableAsync
 public class TacobankAuthServerApplication {
 
 	@PostConstruct
@@ -0,0 +1,9 @@
+package com.almagest_dev.tacobank_auth_server.auth.application.dto;
+
+/**
+ * 세션 연장시 새로 발급된 토큰
+ * @param accessToken 액세스 토큰 (JWT)
+ * @param refreshToken 리프레시 토큰
+ */
+public record SessionTokens(String accessToken, String refreshToken) {
+}
@@ -1,19 +1,32 @@
 package com.almagest_dev.tacobank_auth_server.auth.application.service;
 
-import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.TokenBlackList;
+import com.almagest_dev.tacobank_auth_server.auth.application.dto.SessionTokens;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RefreshTokenStore;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RegisteredMemberFilter;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RotatedRefreshToken;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.TokenRevocationEpoch;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.CustomUserDetailsService;
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtProvider;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.VerifiedToken;
 import com.almagest_dev.tacobank_auth_server.auth.presentation.dto.DuplicateEmailRequestDto;
 import com.almagest_dev.tacobank_auth_server.auth.presentation.dto.SignupRequestDTO;
 import com.almagest_dev.tacobank_auth_server.auth.domain.model.Member;
 import com.almagest_dev.tacobank_auth_server.auth.domain.model.Role;
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.BreachedPasswords;
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.PasswordPolicy;
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.PasswordViolations;
 import com.almagest_dev.tacobank_auth_server.auth.domain.repository.MemberRepository;
 import com.almagest_dev.tacobank_auth_server.auth.domain.repository.RoleRepository;
 import com.almagest_dev.tacobank_auth_server.common.exception.InvalidTokenException;
-import jakarta.servlet.http.Cookie;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -21,12 +34,17 @@ public class AuthService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
-    private final TokenBlackList tokenBlackList;
-    private static final String ALLOWED_SPECIAL_CHARACTERS = "!@_";
+    private final TokenRevocationEpoch tokenRevocationEpoch;
+    private final RefreshTokenStore refreshTokenStore;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final BreachedPasswords breachedPasswords;
+    private final RegisteredMemberFilter registeredMemberFilter;
+    private static final PasswordPolicy PASSWORD_POLICY = PasswordPolicy.standard(8);
 
 
     /**
      * 회원 가입 - Member 등록
+     *  - 중복 확인은 항상 DB 조회 (Bloom Filter 는 다른 파드의 가입, 다른 서버의 변경이 늦게 반영될 수 있음)
      */
     public void registerMember(SignupRequestDTO requestDTO) {
         if (memberRepository.existsByEmailAndDeleted(requestDTO.getEmail(), "N")) {
@@ -50,13 +68,16 @@ public class AuthService {
         // 멤버 저장
         Member member = Member.createMember(requestDTO.getEmail(), encodedPassword, requestDTO.getName(), requestDTO.getBirth(), requestDTO.getTel(), role);
         memberRepository.save(member);
+        registeredMemberFilter.add(member.getEmail());
     }
 
     /**
-     * 이메일 중복 검사
+     * 이메일 중복 검사 (가입 전 안내용)
+     *  - Bloom Filter 에 없으면 DB 조회 생략, 최종 확인은 회원 가입시 DB 조회
      */
     public void checkDuplicateEmail(DuplicateEmailRequestDto requestDto) {
-        if (memberRepository.existsByEmailAndDeleted(requestDto.getEmail(), "N")) {
+        if (registeredMemberFilter.mightContainEmail(requestDto.getEmail())
+                && memberRepository.existsByEmailAndDeleted(requestDto.getEmail(), "N")) {
             throw new IllegalArgumentException("이미 존재하는 이메일 입니다.");
         }
     }
@@ -64,155 +85,61 @@ public class AuthService {
 
     /**
      * 비밀번호 규칙 검사
+     *  - 위반한 규칙이 여러 개면 우선순위가 가장 높은 규칙의 메시지로 예외 발생
+     *  - 규칙을 모두 통과하면 유출 비밀번호 목록 확인
      */
     public void validatePassword(String password, int minLen, String birth, String tel) {
-        if (!isValidLength(password, minLen)) {
-            throw new IllegalArgumentException("비밀번호는 최소 " + minLen + "자 이상이어야 합니다.");
-        }
-        if (!containsAllowedCharacters(password)) {
-            throw new IllegalArgumentException("비밀번호는 허용되지 않은 문자를 포함할 수 없습니다.");
-        }
-        if (containsSensitiveInfo(password, birth, tel)) {
-            throw new IllegalArgumentException("비밀번호에 생년월일 또는 전화번호를 포함할 수 없습니다.");
+        PasswordPolicy policy = (minLen == PASSWORD_POLICY.getMinLength()) ? PASSWORD_POLICY : PasswordPolicy.standard(minLen);
+        PasswordViolations violations = policy.validate(password, birth, tel);
+        if (!violations.isValid()) {
+            throw new IllegalArgumentException(violations.first().message(minLen));
         }
-        if (!containsRequiredTypes(password)) {
-            throw new IllegalArgumentException("비밀번호에는 영문자, 숫자, 특수문자가 최소 1개 이상 포함되어야 합니다.");
+        if (breachedPasswords.contains(password)) {
+            throw new IllegalArgumentException("유출된 것으로 알려진 비밀번호는 사용할 수 없습니다. 다른 비밀번호를 입력해주세요.");
         }
-        if (hasRepeatedNumbers(password)) {
-            throw new IllegalArgumentException("비밀번호에 동일한 숫자가 3번 이상 반복될 수 없습니다.");
-        }
-        if (hasSequentialNumbers(password)) {
-            throw new IllegalArgumentException("비밀번호에 연속된 숫자가 포함될 수 없습니다.");
-        }
-    }
-
-    /**
-     * 길이 유효성 검사 (minLen 이상)
-     */
-    public static boolean isValidLength(String str, int minLen) {
-        return str != null && str.length() >= minLen;
-    }
-
-    /**
-     * 영문자, 숫자, 허용 특수문자 이외 문자 포함시 False
-     */
-    public static boolean containsAllowedCharacters(String str) {
-        return str.matches("^[a-zA-Z0-9" + ALLOWED_SPECIAL_CHARACTERS + "]+$");
     }
 
     /**
-     * 개인정보 포함시 True
+     * 세션 연장
+     *  - 리프레시 토큰 교체 후 새 액세스 토큰 발급 (기존 액세스 토큰은 만료 시간까지 유효)
      */
-    private static boolean containsSensitiveInfo(String str, String birth, String tel) {
-        if (birth == null || birth.trim().isEmpty() ||
-                tel == null || tel.trim().isEmpty()) {
-            return true; // null 또는 공백 문자열일 경우 true 반환
+    public SessionTokens extendSession(String refreshToken) {
+        if (refreshToken == null) {
+            throw new InvalidTokenException("토큰이 유효하지 않습니다.");
         }
 
-        String sanitizedBirthDate = removeNonDigits(birth);
-        String sanitizedTel = removeNonDigits(tel);
-        if (sanitizedBirthDate.isEmpty() || sanitizedTel.isEmpty()) {
-            return true; // 숫자가 전혀 없는 경우 true 반환
-        }
+        // 리프레시 토큰 교체 (재사용 감지시 예외)
+        RotatedRefreshToken rotated = refreshTokenStore.rotate(refreshToken);
 
-        // 생년월일 매칭 검사
-        if (str.contains(sanitizedBirthDate.substring(0, 2)) // 연도 확인
-                || str.contains(sanitizedBirthDate.substring(2)) // 월일 확인
-                || str.contains(sanitizedBirthDate) // 전체 확인
-        ) {
-            return true;
+        // 권한, 탈퇴 여부는 최신 회원 정보 기준
+        UserDetails userDetails;
+        try {
+            userDetails = customUserDetailsService.loadUserByUsername(rotated.email());
+        } catch (UsernameNotFoundException ex) {
+            userDetails = null;
         }
-
-        // 전화번호 매칭 검사
-        if (str.contains(sanitizedTel)) {
-            return true;
+        if (userDetails == null || !userDetails.isAccountNonLocked()) {
+            refreshTokenStore.revoke(rotated.refreshToken());
+            throw new InvalidTokenException("인증 정보가 유효하지 않습니다. 다시 로그인해주세요.");
         }
 
-        return false;
-    }
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        String accessToken = jwtProvider.createToken(userDetails.getUsername(), rotated.memberId(), roles);
 
-    /**
-     * 영문자, 숫자, 특수문자가 모두 1개 이상 포함되어있지 않으면 False
-     */
-    public static boolean containsRequiredTypes(String str) {
-        return str.matches(".*[a-zA-Z].*") && // 영문자
-                str.matches(".*[0-9].*") &&    // 숫자
-                str.matches(".*[" + ALLOWED_SPECIAL_CHARACTERS + "].*"); // 특수문자
+        return new SessionTokens(accessToken, rotated.refreshToken());
     }
 
     /**
-     * 3개 이상의 동일한 숫자가 있다면 True
+     * 전체 로그아웃
+     *  - 지금까지 발급된 회원의 토큰 전체 무효화 (같은 초에 발급된 현재 토큰 포함)
      */
-    public static boolean hasRepeatedNumbers(String str) {
-        return str.matches(".*(\\d)\\1{2,}.*");
-    }
-
-    /**
-     * 연속 숫자 여부 확인
-     *  - 연속 숫자가 3개 이상인 경우, True
-     *      ex) 111, 123
-     */
-    public static boolean hasSequentialNumbers(String str) {
-        for (int i = 0; i < str.length() - 2; i++) {
-            char first = str.charAt(i);
-            char second = str.charAt(i + 1);
-            char third = str.charAt(i + 2);
-
-            if (Character.isDigit(first) && Character.isDigit(second) && Character.isDigit(third)) {
-                int diff1 = second - first;
-                int diff2 = third - second;
-
-                // 증가, 감소하는 연속 숫자 여부 확인
-                if (diff1 == diff2 && Math.abs(diff1) == 1) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    /**
-     * 숫자를 제외한 문자 제거
-     */
-    private static String removeNonDigits(String input) {
-        return input == null ? "" : input.replaceAll("[^0-9]", "");
-    }
-
-    /**
-     * 세션 연장
-     */
-    public String extendSession(Cookie[] cookies) {
-        // 쿠키에서 토큰 추출
-        String token = getTokenFromCookies(cookies);
-        if (token == null || !jwtProvider.validateToken(token)) {
+    public void logoutAll(VerifiedToken verifiedToken) {
+        if (verifiedToken == null) {
             throw new InvalidTokenException("토큰이 유효하지 않습니다.");
         }
 
-        // 블랙리스트 확인
-        if (tokenBlackList.isTokenBlacklisted(token)) {
-            throw new InvalidTokenException("블랙리스트에 등록된 토큰입니다.");
-        }
-
-        // 기존 토큰 블랙리스트에 추가
-        long remainExpiration = jwtProvider.getRemainingExpiration(token);
-        tokenBlackList.addTokenToBlackList(token, remainExpiration);
-
-        // 새 토큰 발급
-        long memberId = jwtProvider.getClaimsFromToken(token).get("memberId", Long.class);
-        return jwtProvider.createToken(jwtProvider.getAuthentication(token), memberId);
-    }
-
-    /**
-     * Cookie 에서 토큰 추출
-     */
-    private String getTokenFromCookies(Cookie[] cookies) {
-        if (cookies == null) return null;
-
-        for (Cookie cookie : cookies) {
-            if ("Authorization".equals(cookie.getName())) {
-                return cookie.getValue();
-            }
-        }
-        return null;
+        tokenRevocationEpoch.revokeAll(verifiedToken.getMemberId());
     }
-}
\ No newline at end of file
+}
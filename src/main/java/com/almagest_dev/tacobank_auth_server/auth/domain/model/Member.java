@@ -57,6 +57,10 @@ public class Member {
     @Column(columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL COMMENT '수정일자'")
     private LocalDateTime updatedDate;
 
+    // 정규화 이메일 (소문자, 앞뒤 공백 제거) - DB 생성 컬럼, 이메일 조회 인덱스 (V2__add_member_lookup_indexes.sql)
+    @Column(insertable = false, updatable = false, columnDefinition = "VARCHAR(100) AS (LOWER(TRIM(email))) STORED COMMENT '정규화 이메일(소문자, 앞뒤 공백 제거)'")
+    private String emailNormalized;
+
     /**
      * 일자 관련 세팅
      */
@@ -68,6 +72,15 @@ public class Member {
         this.updatedDate = LocalDateTime.now(); // 최초 생성시에도 수정일자 생성
     }
 
+    /**
+     * 수정일자 갱신 (로그인 캐시 최신 여부 확인에 사용)
+     *  - 수정일자 컬럼도 함께 UPDATE 하므로 DB 의 ON UPDATE CURRENT_TIMESTAMP 가 적용되지 않음
+     */
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedDate = LocalDateTime.now();
+    }
+
     /**
      * Member 관련 메서드
      */
@@ -90,7 +103,8 @@ public class Member {
                 "N",                    // 탈퇴 여부 (초기값: N)
                 role,                   // 권한
                 LocalDateTime.now(),    // 가입일자
-                LocalDateTime.now()     // 수정일자
+                LocalDateTime.now(),    // 수정일자
+                null                    // 정규화 이메일 (DB 에서 생성)
         );
     }
 }
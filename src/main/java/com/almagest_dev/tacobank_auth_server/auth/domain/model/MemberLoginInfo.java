@@ -0,0 +1,23 @@
+package com.almagest_dev.tacobank_auth_server.auth.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인에 필요한 회원 정보 (조회 전용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberLoginInfo {
+    private Long memberId;          // 멤버 ID
+    private String email;           // 이메일(계정 아이디)
+    private String password;        // 비밀번호 (암호화)
+    private String deleted;         // 탈퇴 여부
+    private String mydataLinked;    // 최초 계좌 연동 여부
+    private String roleName;        // 권한 이름
+    private LocalDateTime updatedDate; // 수정일자 (캐시 최신 여부 확인)
+}
@@ -0,0 +1,12 @@
+package com.almagest_dev.tacobank_auth_server.auth.domain.policy;
+
+/**
+ * 유출된 비밀번호 목록
+ */
+public interface BreachedPasswords {
+
+    /**
+     * 유출된 것으로 알려진 비밀번호인지 확인
+     */
+    boolean contains(CharSequence password);
+}
@@ -0,0 +1,159 @@
+package com.almagest_dev.tacobank_auth_server.auth.domain.policy;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 비밀번호 정책
+ *  - 적용할 규칙, 최소 길이, 허용 특수문자를 설정하여 사용
+ *  - 비밀번호를 한 번만 순회하며 모든 규칙을 검사 (정규식, 문자열 생성 없음)
+ *  - 첫 위반에서 멈추지 않고 위반한 규칙 전체를 반환
+ */
+public final class PasswordPolicy {
+    public static final String DEFAULT_SPECIAL_CHARACTERS = "!@_";
+
+    private final int minLength;
+    private final String specialCharacters;
+    private final int enabledMask;
+
+    public PasswordPolicy(int minLength, String specialCharacters, Set<PasswordRule> rules) {
+        this.minLength = minLength;
+        this.specialCharacters = specialCharacters;
+
+        int mask = 0;
+        for (PasswordRule rule : rules) {
+            mask |= rule.bit();
+        }
+        this.enabledMask = mask;
+    }
+
+    /**
+     * 전체 규칙 적용 (허용 특수문자: !@_)
+     */
+    public static PasswordPolicy standard(int minLength) {
+        return new PasswordPolicy(minLength, DEFAULT_SPECIAL_CHARACTERS, EnumSet.allOf(PasswordRule.class));
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    /**
+     * 비밀번호 검사
+     * @param birth 생년월일 (숫자 외 문자는 무시, 없으면 NO_PERSONAL_INFO 위반)
+     * @param tel 전화번호 (숫자 외 문자는 무시, 없으면 NO_PERSONAL_INFO 위반)
+     */
+    public PasswordViolations validate(CharSequence password, CharSequence birth, CharSequence tel) {
+        if (password == null) {
+            return new PasswordViolations(PasswordRule.MIN_LENGTH.bit() & enabledMask, minLength);
+        }
+
+        int length = password.length();
+        int violations = 0;
+        if (length < minLength) violations |= PasswordRule.MIN_LENGTH.bit();
+
+        // 개인정보: 생년월일 앞 2자리, 나머지, 전체 & 전화번호 숫자
+        boolean checkPersonalInfo = enabled(PasswordRule.NO_PERSONAL_INFO);
+        int birthDigits = countDigits(birth);
+        int telDigits = countDigits(tel);
+        if (checkPersonalInfo && (isBlank(birth) || isBlank(tel) || birthDigits < 2 || telDigits == 0 || birthDigits == 2)) {
+            violations |= PasswordRule.NO_PERSONAL_INFO.bit(); // 비교할 값이 없거나, 빈 문자열과 비교 (항상 포함)
+            checkPersonalInfo = false;
+        }
+
+        boolean allAllowed = length > 0;
+        boolean hasLetter = false;
+        boolean hasDigit = false;
+        boolean hasSpecial = false;
+        char previous = 0;
+        char beforePrevious = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+
+            boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            boolean digit = c >= '0' && c <= '9';
+            boolean special = specialCharacters.indexOf(c) >= 0;
+            hasLetter |= letter;
+            hasDigit |= digit;
+            hasSpecial |= special;
+            allAllowed &= letter || digit || special;
+
+            if (i >= 2) {
+                // 동일 숫자 3회 (ex. 111)
+                if (digit && c == previous && c == beforePrevious) {
+                    violations |= PasswordRule.NO_REPEATED_DIGITS.bit();
+                }
+                // 연속 숫자 3개 (ex. 123, 321)
+                if (Character.isDigit(c) && Character.isDigit(previous) && Character.isDigit(beforePrevious)) {
+                    int step = previous - beforePrevious;
+                    if (c - previous == step && (step == 1 || step == -1)) {
+                        violations |= PasswordRule.NO_SEQUENTIAL_DIGITS.bit();
+                    }
+                }
+            }
+
+            if (checkPersonalInfo && (digitsMatchAt(password, i, birth, 0, 2)
+                    || digitsMatchAt(password, i, birth, 2, birthDigits)
+                    || digitsMatchAt(password, i, tel, 0, telDigits))) {
+                violations |= PasswordRule.NO_PERSONAL_INFO.bit();
+                checkPersonalInfo = false;
+            }
+
+            beforePrevious = previous;
+            previous = c;
+        }
+
+        if (!allAllowed) violations |= PasswordRule.ALLOWED_CHARACTERS.bit();
+        if (!(hasLetter && hasDigit && hasSpecial)) violations |= PasswordRule.REQUIRED_TYPES.bit();
+
+        return new PasswordViolations(violations & enabledMask, minLength);
+    }
+
+    private boolean enabled(PasswordRule rule) {
+        return (enabledMask & rule.bit()) != 0;
+    }
+
+    /**
+     * password 의 start 위치부터 source 의 숫자 [from, to) 번째와 일치하는지 확인 (숫자 외 문자는 건너뜀)
+     */
+    private static boolean digitsMatchAt(CharSequence password, int start, CharSequence source, int from, int to) {
+        if (start + (to - from) > password.length()) return false;
+
+        int digitIndex = 0;
+        int offset = start;
+        for (int i = 0; i < source.length() && digitIndex < to; i++) {
+            char c = source.charAt(i);
+            if (c < '0' || c > '9') continue;
+
+            if (digitIndex >= from && password.charAt(offset++) != c) {
+                return false;
+            }
+            digitIndex++;
+        }
+        return true;
+    }
+
+    private static int countDigits(CharSequence value) {
+        if (value == null) return 0;
+
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') count++;
+        }
+        return count;
+    }
+
+    /**
+     * null 이거나 공백 문자 (String.trim 기준) 만 있는 경우
+     */
+    private static boolean isBlank(CharSequence value) {
+        if (value == null) return true;
+
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') return false;
+        }
+        return true;
+    }
+}
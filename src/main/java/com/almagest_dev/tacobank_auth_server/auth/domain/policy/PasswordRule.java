@@ -0,0 +1,32 @@
+package com.almagest_dev.tacobank_auth_server.auth.domain.policy;
+
+/**
+ * 비밀번호 규칙
+ *  - 선언 순서 = 메시지 우선순위 (여러 규칙 위반시 앞선 규칙의 메시지 사용)
+ */
+public enum PasswordRule {
+    MIN_LENGTH("비밀번호는 최소 %d자 이상이어야 합니다."),
+    ALLOWED_CHARACTERS("비밀번호는 허용되지 않은 문자를 포함할 수 없습니다."),
+    NO_PERSONAL_INFO("비밀번호에 생년월일 또는 전화번호를 포함할 수 없습니다."),
+    REQUIRED_TYPES("비밀번호에는 영문자, 숫자, 특수문자가 최소 1개 이상 포함되어야 합니다."),
+    NO_REPEATED_DIGITS("비밀번호에 동일한 숫자가 3번 이상 반복될 수 없습니다."),
+    NO_SEQUENTIAL_DIGITS("비밀번호에 연속된 숫자가 포함될 수 없습니다.");
+
+    private final String message;
+
+    PasswordRule(String message) {
+        this.message = message;
+    }
+
+    /**
+     * 위반 메시지
+     * @param minLength 최소 길이 (MIN_LENGTH 메시지에 사용)
+     */
+    public String message(int minLength) {
+        return (this == MIN_LENGTH) ? String.format(message, minLength) : message;
+    }
+
+    int bit() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,45 @@
+package com.almagest_dev.tacobank_auth_server.auth.domain.policy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비밀번호 검사 결과 (위반한 규칙 전체)
+ * @param mask 위반 규칙 비트 (PasswordRule 순서)
+ */
+public record PasswordViolations(int mask, int minLength) {
+
+    public boolean isValid() {
+        return mask == 0;
+    }
+
+    public boolean contains(PasswordRule rule) {
+        return (mask & rule.bit()) != 0;
+    }
+
+    /**
+     * 우선순위가 가장 높은 위반 규칙
+     * @return 위반이 없으면 null
+     */
+    public PasswordRule first() {
+        return isValid() ? null : PasswordRule.values()[Integer.numberOfTrailingZeros(mask)];
+    }
+
+    /**
+     * 위반 규칙 전체 (우선순위 순서)
+     */
+    public List<PasswordRule> rules() {
+        List<PasswordRule> rules = new ArrayList<>(Integer.bitCount(mask));
+        for (PasswordRule rule : PasswordRule.values()) {
+            if (contains(rule)) rules.add(rule);
+        }
+        return rules;
+    }
+
+    /**
+     * 위반 메시지 전체 (우선순위 순서)
+     */
+    public List<String> messages() {
+        return rules().stream().map(rule -> rule.message(minLength)).toList();
+    }
+}
@@ -1,15 +1,57 @@
 package com.almagest_dev.tacobank_auth_server.auth.domain.repository;
 
 import com.almagest_dev.tacobank_auth_server.auth.domain.model.Member;
+import com.almagest_dev.tacobank_auth_server.auth.domain.model.MemberLoginInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
-    Optional<Member> findByEmail(String email);
-    boolean existsByEmail(String email);
-    boolean existsByEmailAndDeleted(String email, String deleted); // 탈퇴하지 않은 회원 조회
-    boolean existsByTelAndDeletedNot(String tel, String deleted);
+    // 이메일 조회는 정규화 이메일 인덱스 사용 (idx_member_email_normalized_deleted, 대소문자 & 앞뒤 공백 무시)
+    // 탈퇴 회원의 이메일로 다시 가입할 수 있으므로 (uk_member_active_email) 탈퇴하지 않은 회원만 조회 (최대 1건)
+    @Query("SELECT m FROM Member m WHERE m.emailNormalized = LOWER(TRIM(:email)) AND m.deleted = 'N'")
+    Optional<Member> findByEmail(@Param("email") String email);
+
+    // 로그인 회원 정보 (필요한 컬럼만 권한과 한 번에 조회, 엔티티가 아니므로 영속성 컨텍스트 관리 대상 아님)
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.almagest_dev.tacobank_auth_server.auth.domain.model.MemberLoginInfo(m.id, m.email, m.password, m.deleted, m.mydataLinked, r.roleName, m.updatedDate) "
+            + "FROM Member m JOIN m.role r WHERE m.emailNormalized = LOWER(TRIM(:email)) AND m.deleted = 'N'")
+    Optional<MemberLoginInfo> findLoginInfoByEmail(@Param("email") String email);
+
+    // 로그인 캐시 최신 여부 확인 (PK 조회, 회원 정보 변경시 수정일자 갱신)
+    @Transactional(readOnly = true)
+    @Query("SELECT m.updatedDate FROM Member m WHERE m.id = :memberId")
+    Optional<LocalDateTime> findUpdatedDateById(@Param("memberId") Long memberId);
+
+    @Query("SELECT COUNT(m) > 0 FROM Member m WHERE m.emailNormalized = LOWER(TRIM(:email))")
+    boolean existsByEmail(@Param("email") String email);
+
+    // 읽기 전용 - Replica 설정시 Replica 에서 조회 (복제 지연 중 중복 가입은 uk_member_active_email 로 차단)
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(m) > 0 FROM Member m WHERE m.emailNormalized = LOWER(TRIM(:email)) AND m.deleted = :deleted")
+    boolean existsByEmailAndDeleted(@Param("email") String email, @Param("deleted") String deleted); // 탈퇴하지 않은 회원 조회
+
+    boolean existsByTelAndDeletedNot(String tel, String deleted); // idx_member_tel_deleted
+
+    // 탈퇴하지 않은 회원 이메일 (가입 회원 Bloom Filter 생성용, 트랜잭션 안에서 스트리밍 조회)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.email FROM Member m WHERE m.deleted <> 'Y'")
+    Stream<String> streamActiveEmails();
+
+    // 비밀번호 해시 업그레이드 (기존 해시가 그대로인 경우에만 변경)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :newPassword WHERE m.id = :memberId AND m.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("memberId") Long memberId, @Param("currentPassword") String currentPassword, @Param("newPassword") String newPassword);
 }
@@ -1,6 +1,8 @@
 package com.almagest_dev.tacobank_auth_server.auth.domain.repository;
 
 import com.almagest_dev.tacobank_auth_server.auth.domain.model.Role;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.config.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +10,6 @@ import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @Cacheable(cacheNames = CacheConfig.ROLE_CACHE, unless = "#result == null") // 권한은 변경되지 않으므로 영구 캐시 (없는 권한은 캐시하지 않음)
     Optional<Role> findByRoleName(String roleName);
 }
@@ -0,0 +1,27 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String ROLE_CACHE = "roles";
+
+    /**
+     * 로컬 캐시 (@Cacheable)
+     *  - roles: 권한 엔티티, 만료 없음 (권한은 DB 초기 데이터로만 관리)
+     *  - 메트릭: cache.gets, cache.puts 등 (cache=roles)
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(ROLE_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
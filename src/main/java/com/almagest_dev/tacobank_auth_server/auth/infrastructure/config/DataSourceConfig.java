@@ -0,0 +1,81 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primary / Read Replica DataSource
+ *  - datasource.replica.urls 설정시에만 사용 (미설정시 spring.datasource 단일 DataSource)
+ *  - Primary: spring.datasource.*, spring.datasource.hikari.* 그대로 사용
+ *  - Replica: Primary 설정 복사 후 URL, 풀 크기, 연결 대기 시간만 변경 (읽기 전용 연결)
+ *  - 풀별 메트릭: hikaricp.connections.*{pool=auth-primary|auth-replica-N}
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.urls")
+public class DataSourceConfig {
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${datasource.replica.urls}") List<String> replicaUrls,
+                                 @Value("${datasource.replica.maximum-pool-size:8}") int replicaPoolSize,
+                                 @Value("${datasource.replica.connection-timeout:1s}") Duration replicaConnectionTimeout) {
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("auth-primary");
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+        pools.add(primary);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setJdbcUrl(replicaUrls.get(i).trim());
+            config.setPoolName("auth-replica-" + i);
+            config.setMaximumPoolSize(replicaPoolSize);
+            config.setConnectionTimeout(replicaConnectionTimeout.toMillis()); // 장애시 빠르게 Primary 로 전환
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1); // Replica 장애 중에도 시작 가능
+
+            HikariDataSource replica = new HikariDataSource(config);
+            pools.add(replica);
+            replicas.add(replica);
+        }
+
+        log.info("DataSourceConfig - Primary + Replica {}개 (pool size: {})", replicas.size(), replicaPoolSize);
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replicas, meterRegistry));
+    }
+
+    /**
+     * 커넥션 풀 종료 (Bean 이 아니므로 직접 종료)
+     */
+    @PreDestroy
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
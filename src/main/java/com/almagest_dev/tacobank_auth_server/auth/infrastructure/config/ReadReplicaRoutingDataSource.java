@@ -0,0 +1,94 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 Replica 로 보내는 DataSource
+ *  - @Transactional(readOnly = true) 안의 조회: Replica (여러 개면 순서대로 분배), 그 외: Primary
+ *  - 트랜잭션 시작 후 readOnly 여부가 정해지므로 LazyConnectionDataSourceProxy 로 감싸서 사용 (첫 쿼리 시점에 선택)
+ *  - usePrimary() 안에서는 읽기 전용이어도 Primary (복제 지연으로 최신 데이터가 필요한 경우)
+ *  - Replica 연결 실패시 Primary 로 처리
+ *  - 메트릭: datasource.replica.failover (Replica 연결 실패로 Primary 사용)
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<String> replicaKeys;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter failoverCounter;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+
+        Map<Object, Object> targets = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            keys.add("replica-" + i);
+            targets.put(keys.get(i), replicas.get(i));
+        }
+        this.replicaKeys = List.copyOf(keys);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.failoverCounter = Counter.builder("datasource.replica.failover").register(meterRegistry);
+    }
+
+    /**
+     * 읽기 전용이어도 Primary 에서 실행
+     */
+    public static <T> T usePrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) PRIMARY_ONLY.remove(); else PRIMARY_ONLY.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || Boolean.TRUE.equals(PRIMARY_ONLY.get())) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primary) {
+            return target.getConnection();
+        }
+
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            failoverCounter.increment();
+            log.warn("ReadReplicaRoutingDataSource::getConnection - Replica 연결 실패, Primary 사용: {}", e.getMessage());
+            return primary.getConnection();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class RedisConfig {
+
+    /**
+     * Redis Pub/Sub 리스너 컨테이너 (파드 간 캐시 동기화)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    /**
+     * Lettuce 명령별 제한 시간 (동기 호출 & 파이프라인 포함)
+     *  - 조회 (GET, MGET, HGETALL 등): redis.deadline.read
+     *  - Lua 스크립트 (EVAL, EVALSHA): redis.deadline.script
+     *  - 저장, 삭제, 발행 (SET, DEL, INCRBY, PUBLISH 등): redis.deadline.write
+     *  - 그 외 (SCAN, SUBSCRIBE 등): spring.data.redis.timeout
+     *  - ClientOptions 를 교체하므로 Spring Boot 기본 설정 (connect-timeout) 을 함께 적용
+     */
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer redisCommandDeadlines(RedisProperties redisProperties,
+                                                                           @Value("${redis.deadline.read:200ms}") Duration readDeadline,
+                                                                           @Value("${redis.deadline.script:300ms}") Duration scriptDeadline,
+                                                                           @Value("${redis.deadline.write:300ms}") Duration writeDeadline) {
+        long defaultMillis = (redisProperties.getTimeout() == null) ? Duration.ofSeconds(60).toMillis() : redisProperties.getTimeout().toMillis();
+        TimeoutOptions.TimeoutSource deadlines = new TimeoutOptions.TimeoutSource() {
+            @Override
+            public long getTimeout(RedisCommand<?, ?, ?> command) {
+                if (!(command.getType() instanceof CommandType type)) {
+                    return defaultMillis;
+                }
+                return switch (type) {
+                    case GET, MGET, HGET, HGETALL, EXISTS, TTL, PTTL -> readDeadline.toMillis();
+                    case EVAL, EVALSHA -> scriptDeadline.toMillis();
+                    case SET, DEL, UNLINK, INCRBY, EXPIRE, PEXPIRE, HSET, PUBLISH -> writeDeadline.toMillis();
+                    default -> defaultMillis;
+                };
+            }
+        };
+
+        ClientOptions.Builder clientOptions = ClientOptions.builder()
+                .timeoutOptions(TimeoutOptions.builder().timeoutSource(deadlines).build());
+        if (redisProperties.getConnectTimeout() != null) {
+            clientOptions.socketOptions(SocketOptions.builder().connectTimeout(redisProperties.getConnectTimeout()).build());
+        }
+        return builder -> builder.clientOptions(clientOptions.build());
+    }
+
+    /**
+     * Redis Circuit Breaker
+     *  - 최근 호출 중 실패 or 느린 호출 (slow-call-duration 초과) 비율이 기준 이상이면 Open, wait-in-open-state 후 일부 호출로 복구 확인
+     *  - 메트릭: resilience4j.circuitbreaker.state, resilience4j.circuitbreaker.calls 등 (name=redis)
+     */
+    @Bean
+    public CircuitBreaker redisCircuitBreaker(MeterRegistry meterRegistry,
+                                              @Value("${redis.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+                                              @Value("${redis.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                                              @Value("${redis.circuit-breaker.slow-call-duration:250ms}") Duration slowCallDuration,
+                                              @Value("${redis.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+                                              @Value("${redis.circuit-breaker.wait-in-open-state:5s}") Duration waitInOpenState) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.min(20, slidingWindowSize))
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(waitInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("redis");
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("RedisConfig::redisCircuitBreaker - 상태 변경: {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+}
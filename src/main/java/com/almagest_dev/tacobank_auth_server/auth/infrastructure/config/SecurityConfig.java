@@ -1,13 +1,25 @@
 package com.almagest_dev.tacobank_auth_server.auth.infrastructure.config;
 
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.LoginAttemptStore;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RefreshTokenStore;
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.TokenBlackList;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.TokenRevocationEpoch;
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.CustomAuthenticationFilter;
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtAuthenticationFilter;
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtProvider;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtTokenResolver;
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.handler.CustomAccessDeniedHandler;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.BCryptCalibration;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.BoundedPasswordEncoder;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.PasswordHashingExecutor;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit.RateLimitFilter;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit.RateLimitProperties;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.handler.CustomAuthenticationEntryPoint;
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.handler.CustomLogoutSuccessHandler;
-import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -17,32 +29,54 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
+@Slf4j
 @Configuration
 @EnableWebSecurity
 //@EnableWebSecurity(debug = true)
 public class SecurityConfig {
     private final JwtProvider jwtProvider;
-    private final RedisSessionUtil redisSessionUtil;
+    private final JwtTokenResolver jwtTokenResolver;
     private TokenBlackList tokenBlackList;
+    private final TokenRevocationEpoch tokenRevocationEpoch;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginAttemptStore loginAttemptStore;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
 
-    private static final String[] PUBLIC_API_URL = { "/taco/auth/login", "/taco/auth/members", "/taco/auth/email" }; // 인증 없이도 접근 가능한 경로
+    private static final String[] PUBLIC_API_URL = { "/taco/auth/login", "/taco/auth/members", "/taco/auth/email", "/taco/auth/extend-session", "/.well-known/jwks.json" }; // 인증 없이도 접근 가능한 경로
     private static final String ADMIN_API_URL = "/taco/admin/**"; // 관리자만 접근 가능한 경로
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final int MIN_BCRYPT_STRENGTH = 10; // BCryptPasswordEncoder 기본값
+    private static final int MAX_BCRYPT_STRENGTH = 14;
 
-    public SecurityConfig(JwtProvider jwtProvider, RedisSessionUtil redisSessionUtil, TokenBlackList tokenBlackList) {
+    public SecurityConfig(JwtProvider jwtProvider, JwtTokenResolver jwtTokenResolver, TokenBlackList tokenBlackList, TokenRevocationEpoch tokenRevocationEpoch, RefreshTokenStore refreshTokenStore, LoginAttemptStore loginAttemptStore,
+                          RateLimiter rateLimiter, RateLimitProperties rateLimitProperties, ObjectMapper objectMapper) {
         this.jwtProvider = jwtProvider;
-        this.redisSessionUtil = redisSessionUtil;
+        this.jwtTokenResolver = jwtTokenResolver;
         this.tokenBlackList = tokenBlackList;
+        this.tokenRevocationEpoch = tokenRevocationEpoch;
+        this.refreshTokenStore = refreshTokenStore;
+        this.loginAttemptStore = loginAttemptStore;
+        this.rateLimiter = rateLimiter;
+        this.rateLimitProperties = rateLimitProperties;
+        this.objectMapper = objectMapper;
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authenticationManager) throws Exception {
-        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, tokenBlackList);
-        CustomAuthenticationFilter customAuthenticationFilter = new CustomAuthenticationFilter("/taco/auth/login", authenticationManager, jwtProvider, redisSessionUtil);
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, jwtTokenResolver, tokenBlackList, tokenRevocationEpoch);
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimiter, rateLimitProperties, objectMapper);
+        CustomAuthenticationFilter customAuthenticationFilter = new CustomAuthenticationFilter("/taco/auth/login", authenticationManager, jwtProvider, loginAttemptStore, refreshTokenStore);
 
         http
                 .csrf((csrf) -> csrf.disable()) // CSRF 보호 비활성화
@@ -61,9 +95,10 @@ public class SecurityConfig {
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, LogoutFilter.class) // JwtAuthenticationFilter가 먼저 실행
                 .addFilterAfter(customAuthenticationFilter, JwtAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class) // 요청 제한 초과시 인증 처리 전에 거부
                 .logout((logout) -> logout
                         .logoutUrl("/taco/auth/logout") // 로그아웃 요청 URL
-                        .logoutSuccessHandler(new CustomLogoutSuccessHandler(jwtProvider, tokenBlackList)) // 로그아웃 성공 핸들러
+                        .logoutSuccessHandler(new CustomLogoutSuccessHandler(jwtTokenResolver, tokenBlackList, refreshTokenStore)) // 로그아웃 성공 핸들러
                         .deleteCookies("Authorization") // Authorization 쿠키 삭제
                         // .invalidateHttpSession(true) // 세션 무효화 (STATELESS 설정이므로 거의 의미 없음)
                 );
@@ -76,9 +111,33 @@ public class SecurityConfig {
         return configuration.getAuthenticationManager();
     }
 
+    /**
+     * 비밀번호 암호화
+     *  - 저장 형식: $2a$... (접두어 없는 BCrypt, member 테이블을 함께 읽는 다른 서비스와 호환)
+     *  - strength: password.bcrypt.strength (모든 파드 동일), 낮은 strength 의 기존 해시는 로그인시 업그레이드
+     *  - password.bcrypt.id-prefix: true 면 {bcrypt}$2a$... 로 저장 (다른 서비스가 모두 접두어를 지원한 뒤에만 사용, 되돌릴 수 없음)
+     *  - password.bcrypt.calibrate: true 면 시작시 target-latency 이내 strength 를 측정하여 로그로 권장 (적용하지 않음)
+     *  - 해시, 검증은 전용 실행기에서 실행 (초과 요청은 503)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+                                           @Value("${password.bcrypt.strength:10}") int strength,
+                                           @Value("${password.bcrypt.id-prefix:false}") boolean idPrefix,
+                                           @Value("${password.bcrypt.calibrate:false}") boolean calibrate,
+                                           @Value("${password.bcrypt.target-latency:250ms}") Duration targetLatency) {
+        if (calibrate) {
+            int recommended = BCryptCalibration.calibrate(targetLatency, MIN_BCRYPT_STRENGTH, MAX_BCRYPT_STRENGTH);
+            log.info("SecurityConfig::passwordEncoder - BCrypt strength 권장값: {} (목표 검증 시간: {}, 현재 설정: {})", recommended, targetLatency, strength);
+        }
+
+        BCryptPasswordEncoder bcryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+        if (!idPrefix) {
+            return new BoundedPasswordEncoder(bcryptPasswordEncoder, passwordHashingExecutor);
+        }
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcryptPasswordEncoder));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcryptPasswordEncoder); // 접두어 없는 기존 해시
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, passwordHashingExecutor);
     }
 
 }
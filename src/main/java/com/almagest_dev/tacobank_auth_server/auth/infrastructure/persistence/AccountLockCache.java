@@ -0,0 +1,101 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
+
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잠긴 계정 로컬 캐시 (파드별)
+ *  - 잠금 설정 or 조회시 저장, 잠금 해제 시각에 만료 (잠금 TTL 이상 유지되지 않음)
+ *  - 잠긴 계정에 대한 반복 로그인 시도는 Redis 조회 없이 거부
+ *  - 잠금 해제시 (LoginAttemptStore.reset) login:unlock 채널로 다른 파드의 로컬 캐시 삭제
+ *  - 다른 서버 or 운영자가 잠금을 해제하는 경우 login:attempt:{email} 삭제 후 login:unlock 채널에 email (소문자, 앞뒤 공백 제거) 발행 필요
+ *    (발행하지 않으면 각 파드는 캐시된 잠금 해제 시각까지 거부)
+ */
+@Slf4j
+@Component
+public class AccountLockCache implements MessageListener {
+    private static final String CACHE_NAME = "login.lock";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<String, Long> lockedUntil; // email -> 잠금 해제 시각 (ms)
+
+    public AccountLockCache(RedisMessageListenerContainer redisMessageListenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${login.lock-cache.maximum-size:10000}") long maximumSize) {
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+
+        this.lockedUntil = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String email, Long until, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, until - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String email, Long until, long currentTime, long currentDuration) {
+                        return expireAfterCreate(email, until, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String email, Long until, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lockedUntil, CACHE_NAME);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstants.LOGIN_UNLOCK_CHANNEL));
+    }
+
+    /**
+     * 로컬에서 잠금 확인 (I/O 없음)
+     * @return 잠긴 것이 확실하면 true | 모르면 false (Redis 확인 필요)
+     */
+    public boolean isLocked(String email) {
+        Long until = lockedUntil.getIfPresent(email);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * 잠금 저장
+     * @param remainingMillis 남은 잠금 시간 (ms)
+     */
+    public void put(String email, long remainingMillis) {
+        if (remainingMillis <= 0) return;
+        lockedUntil.put(email, System.currentTimeMillis() + remainingMillis);
+    }
+
+    public void invalidate(String email) {
+        lockedUntil.invalidate(email);
+    }
+
+    /**
+     * 다른 파드 or 다른 서버에서 잠금 해제
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String email = new String(message.getBody(), StandardCharsets.UTF_8);
+        invalidate(email);
+        log.info("AccountLockCache::onMessage - 잠금 해제 (email: {})", email);
+    }
+}
@@ -0,0 +1,11 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
+
+/**
+ * 로그인 실패 기록 결과
+ * @param failureCount 실패 횟수
+ * @param locked 계정 잠금 여부 (이번 실패로 잠긴 경우 포함)
+ * @param lockedNow 이번 실패로 잠긴 경우 true
+ * @param remainingMillis 잠금 or 실패 횟수 유지 남은 시간 (ms)
+ */
+public record LoginAttempt(long failureCount, boolean locked, boolean lockedNow, long remainingMillis) {
+}
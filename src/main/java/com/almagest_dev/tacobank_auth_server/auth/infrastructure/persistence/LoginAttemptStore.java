@@ -0,0 +1,175 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
+
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisDegradedMode;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 실패 횟수 & 계정 잠금
+ *  - Key: login:attempt:{email} (Hash) - f: 실패 횟수, l: 잠금 여부, email 은 소문자 & 앞뒤 공백 제거 (대소문자 변형으로 잠금 우회 방지)
+ *  - 이전 버전의 잠금 (member:lock:{email}) 은 남은 TTL 동안 잠금 확인에 반영, 이전 실패 횟수 (login:failure:{email}) 는 이관하지 않음
+ *  - 실패 기록은 Lua 스크립트로 잠금 확인, 실패 횟수 증가, TTL, 잠금을 한 번에 처리 (1 RTT, 원자적)
+ *  - TTL: 첫 실패부터 login.attempt.failure-window, 잠금시 login.attempt.lock-duration 으로 변경
+ *  - 잠긴 계정은 로컬 캐시 (AccountLockCache) 에서 먼저 확인
+ *  - 잠금 해제: TTL 만료 (다른 파드의 로컬 캐시도 같은 시각에 만료) or reset() - Key 삭제 & login:unlock 채널에 email 발행
+ *  - Redis 장애시 (degraded mode) 파드별 로컬 실패 횟수로 잠금 (AccountLockCache), Redis 복구 후에는 Redis 기준
+ */
+@Slf4j
+@Component
+public class LoginAttemptStore {
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FAILURE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/login_attempt_failure.lua"), List.class);
+    private static final RedisScript<Long> LOCK_STATUS_SCRIPT = RedisScript.of(new ClassPathResource("scripts/login_attempt_lock_status.lua"), Long.class);
+
+    private static final long RECORDED = 0;
+    private static final long LOCKED_NOW = 1;
+
+    private final RedisSessionUtil redisSessionUtil;
+    private final AccountLockCache accountLockCache;
+    private final RedisDegradedMode redisDegradedMode;
+    private final Cache<String, AtomicInteger> localFailures; // Redis 장애 중 실패 횟수 (email -> 실패 횟수)
+    private final int maxFailures;
+    private final Duration failureWindow;
+    private final Duration lockDuration;
+
+    public LoginAttemptStore(RedisSessionUtil redisSessionUtil,
+                             AccountLockCache accountLockCache,
+                             RedisDegradedMode redisDegradedMode,
+                             @Value("${login.attempt.max-failures:5}") int maxFailures,
+                             @Value("${login.attempt.failure-window:10m}") Duration failureWindow,
+                             @Value("${login.attempt.lock-duration:10m}") Duration lockDuration) {
+        this.redisSessionUtil = redisSessionUtil;
+        this.accountLockCache = accountLockCache;
+        this.redisDegradedMode = redisDegradedMode;
+        this.maxFailures = maxFailures;
+        this.failureWindow = failureWindow;
+        this.lockDuration = lockDuration;
+
+        this.localFailures = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(failureWindow) // 첫 실패부터 failure-window
+                .build();
+    }
+
+    /**
+     * 계정 잠금 확인
+     * @return 잠긴 경우: true | 잠기지 않은 경우: false
+     */
+    public boolean isLocked(String email) {
+        return RedisSessionUtil.join(isLockedAsync(email));
+    }
+
+    /**
+     * 계정 잠금 비동기 확인
+     *  - 로컬 캐시에 잠금이 있으면 Redis 조회 없이 즉시 완료, Redis 에서 잠금 확인시 로컬 캐시에 저장
+     *  - Redis 장애시 (degraded mode) 로컬 캐시 결과 사용 (잠기지 않음)
+     * @return 잠긴 경우: true | 잠기지 않은 경우: false 로 완료
+     */
+    public CompletableFuture<Boolean> isLockedAsync(String email) {
+        String key = key(email);
+        if (accountLockCache.isLocked(key)) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        // 이전 버전 잠금 Key 는 입력된 email 그대로 저장됨 (lock-duration 경과 후 제거)
+        CompletableFuture<Boolean> locked = redisSessionUtil.executeScriptAsync(LOCK_STATUS_SCRIPT,
+                        List.of(RedisKeyConstants.LOGIN_ATTEMPT_PREFIX + key, RedisKeyConstants.LOCK_PREFIX + email))
+                .thenApply(remainingMillis -> {
+                    if (remainingMillis != null && remainingMillis > 0) {
+                        accountLockCache.put(key, remainingMillis);
+                        return true;
+                    }
+                    return false;
+                });
+        return redisDegradedMode.fallback(locked, "login.lock-status", () -> false);
+    }
+
+    /**
+     * 로그인 실패 기록
+     *  - 최대 실패 횟수에 도달하면 계정 잠금
+     *  - 이미 잠긴 계정은 실패 횟수를 늘리지 않음
+     */
+    public LoginAttempt recordFailure(String email) {
+        String key = key(email);
+        List<?> result;
+        try {
+            result = redisSessionUtil.executeScript(FAILURE_SCRIPT, List.of(RedisKeyConstants.LOGIN_ATTEMPT_PREFIX + key),
+                    String.valueOf(maxFailures), String.valueOf(failureWindow.toMillis()), String.valueOf(lockDuration.toMillis()));
+        } catch (RedisSessionException ex) {
+            if (!redisDegradedMode.fallback("login.failure", ex)) throw ex;
+            return recordFailureLocally(key);
+        }
+
+        long failureCount = ((Number) result.get(0)).longValue();
+        long status = ((Number) result.get(1)).longValue();
+        long remainingMillis = ((Number) result.get(2)).longValue();
+
+        if (status != RECORDED) {
+            accountLockCache.put(key, remainingMillis);
+        }
+        if (status == LOCKED_NOW) {
+            log.warn("LoginAttemptStore::recordFailure - 계정 잠금 (email: {}, failureCount: {})", key, failureCount);
+        }
+        return new LoginAttempt(failureCount, status != RECORDED, status == LOCKED_NOW, remainingMillis);
+    }
+
+    /**
+     * 로그인 성공시 실패 횟수 초기화 & 잠금 해제
+     *  - 실패 기록이 있던 경우에만 login:unlock 발행 (다른 파드의 로컬 잠금 캐시 삭제)
+     */
+    public void reset(String email) {
+        String key = key(email);
+        localFailures.invalidate(key);
+        accountLockCache.invalidate(key);
+
+        try {
+            if (redisSessionUtil.deleteKeys(List.of(RedisKeyConstants.LOGIN_ATTEMPT_PREFIX + key)) > 0) {
+                redisSessionUtil.publish(RedisKeyConstants.LOGIN_UNLOCK_CHANNEL, key);
+            }
+        } catch (RedisSessionException ex) {
+            if (!redisDegradedMode.fallback("login.reset", ex)) throw ex;
+        }
+    }
+
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    public Duration getLockDuration() {
+        return lockDuration;
+    }
+
+    /**
+     * Redis 장애 중 로그인 실패 기록 (파드별 로컬)
+     *  - 최대 실패 횟수에 도달하면 로컬 잠금 (lock-duration)
+     */
+    private LoginAttempt recordFailureLocally(String email) {
+        int failureCount = localFailures.get(email, key -> new AtomicInteger()).incrementAndGet();
+        if (failureCount < maxFailures) {
+            return new LoginAttempt(failureCount, false, false, failureWindow.toMillis());
+        }
+
+        accountLockCache.put(email, lockDuration.toMillis());
+        localFailures.invalidate(email);
+        log.warn("LoginAttemptStore::recordFailureLocally - 계정 로컬 잠금 (email: {}, failureCount: {})", email, failureCount);
+        return new LoginAttempt(failureCount, true, failureCount == maxFailures, lockDuration.toMillis());
+    }
+
+    private static String key(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+}
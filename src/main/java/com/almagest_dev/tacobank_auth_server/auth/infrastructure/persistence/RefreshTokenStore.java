@@ -0,0 +1,144 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
+
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.exception.InvalidTokenException;
+import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
+import com.almagest_dev.tacobank_auth_server.common.exception.RefreshTokenAlreadyRotatedException;
+import com.almagest_dev.tacobank_auth_server.common.util.DigestUtil;
+import com.almagest_dev.tacobank_auth_server.common.util.RandomUtil;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 저장소 (교체 & 재사용 감지)
+ *  - 토큰: {familyId}.{secret}, 로그인마다 패밀리 1개 생성
+ *  - Key: token:refresh:{familyId} (Hash) - d: 현재 토큰 digest, m: memberId, e: email, c: 생성 시각 (밀리초, 전체 무효화 epoch 와 비교), p: 직전 토큰 digest, t: 교체 시각
+ *  - 세션 연장시 현재 토큰 digest 와 비교 후 새 토큰으로 교체 (Lua, 원자적)
+ *  - 직전 토큰이 교체 후 jwt.refresh.reuse-grace 이내에 사용되면 동시 요청 (여러 탭, 재시도) 으로 판단하여 409 (패밀리 유지)
+ *  - 그 외 이미 교체된 토큰이 다시 사용되면 탈취로 판단하여 패밀리 삭제 & 회원 토큰 전체 무효화
+ *  - TTL: 교체시마다 갱신 (jwt.refresh.expiration), 최대 수명 jwt.refresh.max-lifetime
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+    private static final int FAMILY_ID_BYTES = 16; // 22자
+    private static final int SECRET_BYTES = 32;    // 43자
+
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/refresh_token_issue.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/refresh_token_rotate.lua"), List.class);
+
+    private static final String ROTATED = "1";
+    private static final String ALREADY_ROTATED = "2";
+    private static final String REUSED = "-1";
+
+    private final RedisSessionUtil redisSessionUtil;
+    private final TokenRevocationEpoch tokenRevocationEpoch;
+    private final long expiration;
+    private final long maxLifetime;
+    private final Duration reuseGrace;
+
+    public RefreshTokenStore(RedisSessionUtil redisSessionUtil,
+                             TokenRevocationEpoch tokenRevocationEpoch,
+                             @Value("${jwt.refresh.expiration:1800000}") long expiration,
+                             @Value("${jwt.refresh.max-lifetime:43200000}") long maxLifetime,
+                             @Value("${jwt.refresh.reuse-grace:10s}") Duration reuseGrace) {
+        this.redisSessionUtil = redisSessionUtil;
+        this.tokenRevocationEpoch = tokenRevocationEpoch;
+        this.expiration = expiration;
+        this.maxLifetime = maxLifetime;
+        this.reuseGrace = reuseGrace;
+    }
+
+    /**
+     * 리프레시 토큰 발급 (새 패밀리 생성)
+     */
+    public String issue(Long memberId, String email) {
+        String familyId = RandomUtil.randomBase64Url(FAMILY_ID_BYTES);
+        String secret = RandomUtil.randomBase64Url(SECRET_BYTES);
+
+        redisSessionUtil.executeScript(ISSUE_SCRIPT, List.of(RedisKeyConstants.REFRESH_TOKEN_PREFIX + familyId),
+                DigestUtil.sha256Base64Url(secret), String.valueOf(memberId), email,
+                String.valueOf(System.currentTimeMillis()), String.valueOf(expiration));
+
+        log.info("RefreshTokenStore::issue - 리프레시 토큰 발급 (memberId: {}, familyId: {})", memberId, familyId);
+        return familyId + "." + secret;
+    }
+
+    /**
+     * 리프레시 토큰 교체
+     *  - 교체된 이전 토큰이 사용되면 패밀리 삭제 & 회원 토큰 전체 무효화 (직전 토큰은 reuse-grace 이내면 제외)
+     * @throws InvalidTokenException 유효하지 않은 토큰
+     * @throws RefreshTokenAlreadyRotatedException 동시 요청으로 이미 교체된 직전 토큰
+     */
+    public RotatedRefreshToken rotate(String refreshToken) {
+        String familyId = getFamilyId(refreshToken);
+        String secret = refreshToken.substring(familyId.length() + 1);
+        String newSecret = RandomUtil.randomBase64Url(SECRET_BYTES);
+
+        List<?> result = redisSessionUtil.executeScript(ROTATE_SCRIPT, List.of(RedisKeyConstants.REFRESH_TOKEN_PREFIX + familyId),
+                DigestUtil.sha256Base64Url(secret), DigestUtil.sha256Base64Url(newSecret), String.valueOf(expiration),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(reuseGrace.toMillis()));
+
+        String status = (String) result.get(0);
+        if (ALREADY_ROTATED.equals(status)) {
+            log.info("RefreshTokenStore::rotate - 이미 교체된 직전 토큰 (familyId: {})", familyId);
+            throw new RefreshTokenAlreadyRotatedException("이미 연장된 세션입니다. 다시 시도해주세요.");
+        }
+        if (REUSED.equals(status)) {
+            Long memberId = Long.valueOf((String) result.get(1));
+            log.warn("RefreshTokenStore::rotate - 리프레시 토큰 재사용 감지, 회원 토큰 전체 무효화 (memberId: {}, familyId: {})", memberId, familyId);
+            tokenRevocationEpoch.revokeAll(memberId);
+            throw new InvalidTokenException("인증 정보가 유효하지 않습니다. 다시 로그인해주세요.");
+        }
+        if (!ROTATED.equals(status)) {
+            throw new InvalidTokenException("세션이 만료되었습니다. 다시 로그인해주세요.");
+        }
+
+        Long memberId = Long.valueOf((String) result.get(1));
+        String email = (String) result.get(2);
+        long createdAt = Long.parseLong((String) result.get(3));
+
+        // 최대 수명 초과 or 전체 로그아웃 이전에 생성된 패밀리
+        if (System.currentTimeMillis() - createdAt > maxLifetime || tokenRevocationEpoch.isRevoked(memberId, createdAt)) {
+            redisSessionUtil.deleteKey(RedisKeyConstants.REFRESH_TOKEN_PREFIX + familyId);
+            throw new InvalidTokenException("세션이 만료되었습니다. 다시 로그인해주세요.");
+        }
+
+        return new RotatedRefreshToken(memberId, email, familyId + "." + newSecret);
+    }
+
+    /**
+     * 리프레시 토큰 패밀리 삭제 (로그아웃)
+     */
+    public void revoke(String refreshToken) {
+        try {
+            redisSessionUtil.deleteKey(RedisKeyConstants.REFRESH_TOKEN_PREFIX + getFamilyId(refreshToken));
+        } catch (InvalidTokenException | RedisSessionException ex) {
+            // 만료 시간이 지나면 자동 삭제
+            log.warn("RefreshTokenStore::revoke - 리프레시 토큰 삭제 실패: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 최대 수명 (초) - 쿠키 유효 시간
+     */
+    public int getMaxLifetimeSeconds() {
+        return (int) (maxLifetime / 1000);
+    }
+
+    private static String getFamilyId(String refreshToken) {
+        int separator = (refreshToken == null) ? -1 : refreshToken.indexOf('.');
+        if (separator <= 0 || separator == refreshToken.length() - 1) {
+            throw new InvalidTokenException("토큰이 유효하지 않습니다.");
+        }
+        return refreshToken.substring(0, separator);
+    }
+}
@@ -0,0 +1,155 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
+
+import com.almagest_dev.tacobank_auth_server.auth.domain.repository.MemberRepository;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.config.ReadReplicaRoutingDataSource;
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
+import com.almagest_dev.tacobank_auth_server.common.util.RebuildableBloomFilter;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 가입 회원 이메일 Bloom Filter (파드별 로컬)
+ *  - 이메일 중복 확인 (가입 전 안내) 에서 mightContainEmail() 이 true 인 경우에만 DB 조회
+ *  - 전화번호는 저장하지 않음 (개인정보 최소화, 전화번호 중복 확인은 항상 DB 조회)
+ *  - 회원 가입의 중복 확인은 필터와 관계없이 항상 DB 조회 (전파 지연, 누락된 메시지로 인한 중복 가입 방지)
+ *  - 이 파드의 가입은 즉시, 다른 파드의 가입은 Pub/Sub(member:registered) 으로 반영
+ *  - 시작시 & 주기적으로 member 테이블을 스트리밍 조회하여 다시 생성 (탈퇴 회원 제거, 누락된 메시지 보정)
+ *  - 탈퇴는 재생성 전까지 반영되지 않음 (DB 조회로 확인하므로 결과는 동일)
+ *  - 최초 생성 전에는 모두 DB 조회
+ *  - DB 비교 (대소문자 무시 collation) 보다 넓게 일치하도록 소문자, 앞뒤 공백 제거 후 저장
+ *  - 다른 서버에서 이메일을 변경하는 경우 member:registered 채널에 "email:{이메일}" 발행 필요 (이전 형식의 tel: 줄은 무시)
+ *  - 메트릭: member.registration.filter{result=negative|possible}
+ */
+@Slf4j
+@Component
+public class RegisteredMemberFilter implements MessageListener {
+    private static final String EMAIL_PREFIX = "email:";
+    private static final String LEGACY_TEL_PREFIX = "tel:"; // 이전 버전 메시지 (무시)
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final RedisSessionUtil redisSessionUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RebuildableBloomFilter filter;
+
+    private final Counter negativeCounter;
+    private final Counter possibleCounter;
+
+    public RegisteredMemberFilter(MemberRepository memberRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  RedisSessionUtil redisSessionUtil,
+                                  RedisMessageListenerContainer redisMessageListenerContainer,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${member.registration-filter.expected-insertions:1000000}") long expectedInsertions, // 회원 수
+                                  @Value("${member.registration-filter.fpp:0.001}") double fpp) {
+        this.memberRepository = memberRepository;
+        this.redisSessionUtil = redisSessionUtil;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.filter = new RebuildableBloomFilter(expectedInsertions, fpp);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.negativeCounter = Counter.builder("member.registration.filter").tag("result", "negative").register(meterRegistry);
+        this.possibleCounter = Counter.builder("member.registration.filter").tag("result", "possible").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstants.MEMBER_REGISTERED_CHANNEL));
+    }
+
+    /**
+     * 가입된 이메일일 가능성 확인
+     * @return false: 확실히 없음 | true: DB 확인 필요
+     */
+    public boolean mightContainEmail(String email) {
+        if (email == null || filter.mightContain(key(email))) {
+            possibleCounter.increment();
+            return true;
+        }
+        negativeCounter.increment();
+        return false;
+    }
+
+    /**
+     * 가입한 회원 이메일 추가 (로컬 & 다른 파드에 전파)
+     */
+    public void add(String email) {
+        String key = key(email);
+        filter.put(key);
+
+        try {
+            redisSessionUtil.publish(RedisKeyConstants.MEMBER_REGISTERED_CHANNEL, EMAIL_PREFIX + key);
+        } catch (RedisSessionException ex) {
+            // 다른 파드는 재생성 전까지 이 이메일을 없는 것으로 판단할 수 있음
+            log.warn("RegisteredMemberFilter::add - 가입 회원 전파 실패: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 다른 파드 (또는 서버) 에서 가입, 변경된 이메일 반영
+     *  - message: 줄 단위 email:{이메일} (이전 버전의 tel:{전화번호} 줄은 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String line : body.split("\n")) {
+            if (line.startsWith(EMAIL_PREFIX)) {
+                filter.put(key(line.substring(EMAIL_PREFIX.length())));
+            } else if (!line.isBlank() && !line.startsWith(LEGACY_TEL_PREFIX)) {
+                log.warn("RegisteredMemberFilter::onMessage - 잘못된 메시지: {}", line);
+            }
+        }
+    }
+
+    /**
+     * member 테이블로 필터 재생성
+     *  - 시작시 & rebuild-interval 주기로 실행
+     *  - Primary 에서 조회 (Replica 복제 지연으로 최근 가입 회원이 빠지면 중복 확인을 건너뜀)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${member.registration-filter.rebuild-interval:3600000}", fixedDelayString = "${member.registration-filter.rebuild-interval:3600000}")
+    public void rebuild() {
+        try {
+            AtomicLong count = new AtomicLong();
+            filter.rebuild(next -> ReadReplicaRoutingDataSource.usePrimary(() -> readOnlyTransaction.execute(status -> {
+                try (Stream<String> emails = memberRepository.streamActiveEmails()) {
+                    emails.forEach(email -> {
+                        next.put(key(email));
+                        count.incrementAndGet();
+                    });
+                }
+                return null;
+            })));
+            log.info("RegisteredMemberFilter::rebuild - 가입 회원 필터 생성 완료 (count: {})", count.get());
+        } catch (Exception e) {
+            // 실패시 기존 필터 유지 (최초 생성 실패시 모두 DB 확인)
+            log.error("RegisteredMemberFilter::rebuild - 가입 회원 필터 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String key(String email) {
+        return (email == null) ? "" : email.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,82 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.config.ReadReplicaRoutingDataSource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Replica 복제 지연 보호 (Read-Your-Writes)
+ *  - 최근 변경된 회원 (max-lag 이내) 은 Primary 에서 조회 (변경 전 데이터를 캐시하지 않도록)
+ *  - Replica 에 없으면 가입 회원 필터 (RegisteredMemberFilter) 에 있을 수 있는 이메일만 Primary 에서 다시 조회
+ *    (가입 직후 로그인, 다른 파드에서 가입한 경우 포함 / 없는 이메일 대입 시도가 Primary 부하로 이어지지 않도록)
+ *  - 변경 기록: MemberLoginCache.evict() (이 파드), member:cache:evict 메시지 (다른 파드)
+ *  - datasource.replica.urls 미설정시 Primary 만 사용하므로 그대로 조회
+ *  - 메트릭: datasource.replica.primary-reads{reason=recent-write|miss}
+ */
+@Component
+public class ReplicaLagGuard {
+    private final RegisteredMemberFilter registeredMemberFilter;
+    private final boolean enabled;
+    private final Cache<String, Boolean> recentWrites;
+
+    private final Counter recentWriteCounter;
+    private final Counter missCounter;
+
+    public ReplicaLagGuard(RegisteredMemberFilter registeredMemberFilter,
+                           MeterRegistry meterRegistry,
+                           @Value("${datasource.replica.urls:}") String replicaUrls,
+                           @Value("${datasource.replica.max-lag:5s}") Duration maxLag) {
+        this.registeredMemberFilter = registeredMemberFilter;
+        this.enabled = !replicaUrls.isBlank();
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(maxLag)
+                .build();
+
+        this.recentWriteCounter = Counter.builder("datasource.replica.primary-reads").tag("reason", "recent-write").register(meterRegistry);
+        this.missCounter = Counter.builder("datasource.replica.primary-reads").tag("reason", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 회원 정보 변경 기록 (max-lag 동안 Primary 조회)
+     */
+    public void markWritten(String email) {
+        if (enabled && email != null) {
+            recentWrites.put(key(email), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 회원 조회 (최근 변경 or Replica 에 없지만 가입 회원 필터에 있으면 Primary)
+     * @param query 읽기 전용 트랜잭션 조회
+     */
+    public <T> Optional<T> findByEmail(String email, Supplier<Optional<T>> query) {
+        if (!enabled) {
+            return query.get();
+        }
+        if (email != null && recentWrites.getIfPresent(key(email)) != null) {
+            recentWriteCounter.increment();
+            return ReadReplicaRoutingDataSource.usePrimary(query);
+        }
+
+        Optional<T> result = query.get();
+        if (result.isEmpty() && registeredMemberFilter.mightContainEmail(email)) {
+            missCounter.increment();
+            return ReadReplicaRoutingDataSource.usePrimary(query);
+        }
+        return result;
+    }
+
+    private static String key(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,116 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
+
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.util.RebuildableBloomFilter;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 블랙리스트 토큰 Bloom Filter (파드별 로컬)
+ *  - 대부분의 토큰은 블랙리스트에 없으므로 Redis 조회 없이 판단
+ *  - mightBeRevoked() 가 true 인 경우에만 Redis 확인
+ *  - 다른 파드의 블랙리스트 추가는 Pub/Sub(token:revoked) 으로 반영
+ *  - 시작시 & 주기적으로 Redis 에서 다시 생성 (만료된 토큰 제거, 누락된 메시지 보정)
+ *  - 최초 생성 전에는 모든 토큰을 Redis 에서 확인
+ *  - 메트릭: token.revocation.filter{result=negative|possible}
+ */
+@Slf4j
+@Component
+public class RevokedTokenFilter implements MessageListener {
+    private final RedisSessionUtil redisSessionUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RebuildableBloomFilter filter;
+
+    private final Counter negativeCounter;
+    private final Counter possibleCounter;
+
+    public RevokedTokenFilter(RedisSessionUtil redisSessionUtil,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Value("${token.revocation-filter.expected-insertions:100000}") long expectedInsertions,
+                              @Value("${token.revocation-filter.fpp:0.001}") double fpp) {
+        this.redisSessionUtil = redisSessionUtil;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.filter = new RebuildableBloomFilter(expectedInsertions, fpp);
+
+        this.negativeCounter = Counter.builder("token.revocation.filter").tag("result", "negative").register(meterRegistry);
+        this.possibleCounter = Counter.builder("token.revocation.filter").tag("result", "possible").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstants.TOKEN_REVOKED_CHANNEL));
+    }
+
+    /**
+     * 블랙리스트 등록 가능성 확인
+     * @return false: 확실히 블랙리스트에 없음 | true: Redis 확인 필요
+     */
+    public boolean mightBeRevoked(String revocationId) {
+        if (filter.mightContain(revocationId)) {
+            possibleCounter.increment();
+            return true;
+        }
+        negativeCounter.increment();
+        return false;
+    }
+
+    /**
+     * 필터 생성 여부 (생성 전에는 mightBeRevoked 가 항상 true)
+     */
+    public boolean isBuilt() {
+        return filter.isBuilt();
+    }
+
+    /**
+     * 필터에 추가 (로컬)
+     */
+    public void add(String revocationId) {
+        filter.put(revocationId);
+    }
+
+    /**
+     * 다른 파드에서 블랙리스트에 추가된 토큰 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redis 블랙리스트로 필터 재생성
+     *  - 시작시 & 토큰 최대 수명 주기로 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${token.revocation-filter.rebuild-interval:600000}", fixedDelayString = "${token.revocation-filter.rebuild-interval:600000}")
+    public void rebuild() {
+        try {
+            AtomicLong count = new AtomicLong();
+            int prefixLength = RedisKeyConstants.BLACKLIST_PREFIX.length();
+
+            filter.rebuild(next -> redisSessionUtil.scanKeys(RedisKeyConstants.BLACKLIST_PREFIX + "*", key -> {
+                next.put(key.substring(prefixLength));
+                count.incrementAndGet();
+            }));
+            log.info("RevokedTokenFilter::rebuild - 블랙리스트 필터 생성 완료 (count: {})", count.get());
+        } catch (Exception e) {
+            // 실패시 기존 필터 유지 (최초 생성 실패시 모든 토큰 Redis 확인)
+            log.error("RevokedTokenFilter::rebuild - 블랙리스트 필터 생성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
+
+/**
+ * 교체된 리프레시 토큰
+ * @param refreshToken 새 리프레시 토큰 ({familyId}.{secret})
+ */
+public record RotatedRefreshToken(Long memberId, String email, String refreshToken) {
+}
@@ -1,40 +1,72 @@
 package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
 
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.VerifiedToken;
 import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisDegradedMode;
 import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 토큰 블랙리스트
+ *  - Key: token:blacklist:{jti} (22자 고정), jti 가 없는 기존 토큰은 token:blacklist:{토큰 전체}
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TokenBlackList {
     private final RedisSessionUtil redisSessionUtil;
+    private final RevokedTokenFilter revokedTokenFilter;
+    private final RedisDegradedMode redisDegradedMode;
 
     /**
      * 토큰을 블랙리스트에 추가
+     *  - TTL: 해당 토큰의 남은 만료 시간
      */
-    public void addTokenToBlackList(String token, long remainExpiration) {
-        String redisKey = RedisKeyConstants.BLACKLIST_PREFIX + token;
+    public void addTokenToBlackList(VerifiedToken verifiedToken) {
+        long remainExpiration = verifiedToken.getRemainingExpiration();
+        if (remainExpiration <= 0) return; // 이미 만료된 토큰
 
-        // 블랙리스트에 토큰 저장 (TTL: 해당 토큰의 남은 만료 시간)
-        redisSessionUtil.storeSessionData(redisKey, "BLACKLISTED", remainExpiration, TimeUnit.MILLISECONDS);
+        String revocationId = verifiedToken.getRevocationId();
+        String redisKey = RedisKeyConstants.BLACKLIST_PREFIX + revocationId;
 
-        log.info("TokenBlackList::addTokenToBlackList - 토큰 블랙리스트에 추가 (key: {}, ttl: {}ms)", redisKey, remainExpiration);
+        // 블랙리스트에 저장 (Value 는 존재 여부만 사용)
+        redisSessionUtil.storeSessionData(redisKey, "1", remainExpiration, TimeUnit.MILLISECONDS);
+
+        // 로컬 필터 반영 & 다른 파드에 전파
+        revokedTokenFilter.add(revocationId);
+        try {
+            redisSessionUtil.publish(RedisKeyConstants.TOKEN_REVOKED_CHANNEL, revocationId);
+        } catch (RedisSessionException ex) {
+            // 다른 파드는 주기적 재생성시 반영
+            log.warn("TokenBlackList::addTokenToBlackList - 블랙리스트 전파 실패: {}", ex.getMessage());
+        }
+
+        log.info("TokenBlackList::addTokenToBlackList - 토큰 블랙리스트에 추가 (jti: {}, ttl: {}ms)", verifiedToken.getJti(), remainExpiration);
     }
 
     /**
-     * 토큰이 블랙리스트에 있는지 확인
-     * @return 블랙리스트에 있으면 true, 없으면 false
+     * 토큰이 블랙리스트에 있는지 비동기 확인
+     *  - 로컬 필터에 없으면 Redis 조회 없이 즉시 완료
+     *  - Redis 장애시 (degraded mode) 마지막으로 생성된 로컬 필터 결과 사용 (필터 생성 전이면 블랙리스트에 없는 것으로 처리)
+     * @return 블랙리스트에 있으면 true, 없으면 false 로 완료
      */
-    public boolean isTokenBlacklisted(String token) {
-        log.info("TokenBlackList::isTokenBlackListed - {}", token);
-        String redisKey = RedisKeyConstants.BLACKLIST_PREFIX + token;
+    public CompletableFuture<Boolean> isTokenBlacklistedAsync(VerifiedToken verifiedToken) {
+        String revocationId = verifiedToken.getRevocationId();
+        if (!revokedTokenFilter.mightBeRevoked(revocationId)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        log.info("TokenBlackList::isTokenBlackListed - jti: {}", verifiedToken.getJti());
 
         // Redis key 조회
-        return redisSessionUtil.getValueIfExists(redisKey) != null;
+        CompletableFuture<Boolean> blacklisted = redisSessionUtil.getValueIfExistsAsync(RedisKeyConstants.BLACKLIST_PREFIX + revocationId)
+                .thenApply(value -> value != null);
+        return redisDegradedMode.fallback(blacklisted, "token.blacklist", revokedTokenFilter::isBuilt);
     }
 }
@@ -0,0 +1,150 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.VerifiedToken;
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisDegradedMode;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원별 토큰 무효화 기준 시각 (epoch)
+ *  - token:epoch:{memberId} = epoch (밀리초), 발급 시각 (iatMs 클레임, 리프레시 토큰은 패밀리 생성 시각) 이 epoch 이하인 토큰은 모두 무효
+ *      (무효화 직후 같은 초에 발급된 토큰은 유효, 파드 간 시각 차이는 NTP 동기화 범위 이내로 가정)
+ *  - 이전 버전의 초 단위 epoch (Redis, Pub/Sub) 는 그 초의 마지막 밀리초로 변환
+ *  - 전체 로그아웃, 비밀번호 변경, 회원 탈퇴시 토큰을 하나씩 블랙리스트에 넣지 않고 Key 하나로 처리
+ *  - TTL: 액세스 토큰 만료 시간, 리프레시 토큰 최대 수명 (jwt.refresh.max-lifetime) 중 긴 시간
+ *      (이후에는 epoch 이전에 발급된 액세스 토큰, 리프레시 토큰 패밀리가 모두 만료됨)
+ *  - 파드 내 로컬 캐시 + Pub/Sub(token:epoch) 으로 다른 파드 로컬 캐시 갱신
+ *  - 로컬 캐시에 없으면 Redis 비동기 조회 (같은 회원에 대한 동시 조회는 한 번만 요청)
+ *  - Redis 장애시 (degraded mode) 로컬 캐시에 없는 회원은 무효화되지 않은 것으로 처리 (Pub/Sub 으로 받은 epoch 는 적용)
+ *  - 다른 서버에서 무효화하는 경우 token:epoch:{memberId} 저장 후 token:epoch 채널에 "{memberId}:{epoch}" 발행 필요
+ */
+@Slf4j
+@Component
+public class TokenRevocationEpoch implements MessageListener {
+    private static final String CACHE_NAME = "token.epoch";
+    private static final long NONE = 0L; // epoch 없음
+    private static final long MILLIS_THRESHOLD = 100_000_000_000L; // 이보다 작으면 초 단위 epoch (1973년 이후 밀리초는 항상 더 큼)
+
+    private final RedisSessionUtil redisSessionUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisDegradedMode redisDegradedMode;
+    private final AsyncCache<Long, Long> localCache;
+    private final long ttlMillis;
+
+    public TokenRevocationEpoch(RedisSessionUtil redisSessionUtil,
+                                RedisMessageListenerContainer redisMessageListenerContainer,
+                                RedisDegradedMode redisDegradedMode,
+                                MeterRegistry meterRegistry,
+                                @Value("${token.epoch.maximum-size:10000}") long maximumSize,
+                                @Value("${token.epoch.local-ttl:30s}") Duration localTtl,
+                                @Value("${jwt.expiration}") Long expiration,
+                                @Value("${jwt.refresh.max-lifetime:43200000}") long refreshMaxLifetime) {
+        this.redisSessionUtil = redisSessionUtil;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.redisDegradedMode = redisDegradedMode;
+        this.ttlMillis = Math.max((expiration == null) ? 0 : expiration, refreshMaxLifetime);
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstants.TOKEN_EPOCH_CHANNEL));
+    }
+
+    /**
+     * 회원의 현재 발급된 토큰 전체 무효화
+     *  - epoch 는 밀리초 (무효화 이후 발급된 토큰은 같은 초라도 유효)
+     */
+    public void revokeAll(Long memberId) {
+        long epoch = System.currentTimeMillis();
+
+        redisSessionUtil.storeSessionData(RedisKeyConstants.TOKEN_EPOCH_PREFIX + memberId, String.valueOf(epoch), ttlMillis, TimeUnit.MILLISECONDS);
+        localCache.synchronous().put(memberId, epoch);
+
+        try {
+            redisSessionUtil.publish(RedisKeyConstants.TOKEN_EPOCH_CHANNEL, memberId + ":" + epoch);
+        } catch (RedisSessionException ex) {
+            // 다른 파드는 로컬 캐시 만료 후 반영
+            log.warn("TokenRevocationEpoch::revokeAll - epoch 전파 실패: {}", ex.getMessage());
+        }
+
+        log.info("TokenRevocationEpoch::revokeAll - 회원 토큰 전체 무효화 (memberId: {}, epoch: {})", memberId, epoch);
+    }
+
+    /**
+     * epoch 이하에 발급된 토큰인지 비동기 확인 (밀리초 비교)
+     *  - 로컬 캐시에 있으면 즉시 완료
+     * @return 무효화된 토큰이면 true 로 완료
+     */
+    public CompletableFuture<Boolean> isRevokedAsync(VerifiedToken verifiedToken) {
+        long issuedAtMillis = verifiedToken.getIssuedAtMillis();
+        CompletableFuture<Long> epoch = localCache.get(verifiedToken.getMemberId(), (memberId, executor) -> loadEpoch(memberId));
+        return redisDegradedMode.fallback(epoch, "token.epoch", () -> NONE)
+                .thenApply(value -> value != NONE && issuedAtMillis <= value);
+    }
+
+    /**
+     * epoch 이하에 발급되었는지 확인 (밀리초 비교)
+     * @param issuedAtMillis 발급 시각 (밀리초)
+     */
+    public boolean isRevoked(Long memberId, long issuedAtMillis) {
+        long epoch = RedisSessionUtil.join(localCache.get(memberId, (key, executor) -> loadEpoch(key)));
+        return epoch != NONE && issuedAtMillis <= epoch;
+    }
+
+    /**
+     * 다른 파드에서 무효화한 epoch 반영 (message: {memberId}:{epoch})
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+
+        try {
+            Long memberId = Long.valueOf(body.substring(0, separator));
+            long epoch = toMillis(Long.parseLong(body.substring(separator + 1)));
+            localCache.synchronous().asMap().merge(memberId, epoch, Math::max);
+        } catch (RuntimeException e) {
+            log.warn("TokenRevocationEpoch::onMessage - 잘못된 메시지: {}", body);
+        }
+    }
+
+    /**
+     * Redis 에서 epoch 비동기 조회 (Redis 장애시 예외로 완료 - 캐시하지 않음)
+     */
+    private CompletableFuture<Long> loadEpoch(Long memberId) {
+        return redisSessionUtil.getValueIfExistsAsync(RedisKeyConstants.TOKEN_EPOCH_PREFIX + memberId)
+                .thenApply(value -> (value == null) ? NONE : toMillis(Long.parseLong(value)));
+    }
+
+    /**
+     * 이전 버전의 초 단위 epoch 는 그 초의 마지막 밀리초로 변환 (같은 초에 발급된 토큰 무효 유지)
+     */
+    private static long toMillis(long epoch) {
+        return (epoch < MILLIS_THRESHOLD) ? TimeUnit.SECONDS.toMillis(epoch) + 999 : epoch;
+    }
+}
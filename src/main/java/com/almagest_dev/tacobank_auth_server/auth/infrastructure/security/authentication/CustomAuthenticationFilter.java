@@ -1,11 +1,15 @@
 package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
 
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.LoginAttempt;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.LoginAttemptStore;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RefreshTokenStore;
 import com.almagest_dev.tacobank_auth_server.auth.presentation.dto.LoginRequestDTO;
 import com.almagest_dev.tacobank_auth_server.auth.presentation.dto.LoginResponseDto;
-import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
 import com.almagest_dev.tacobank_auth_server.common.dto.AuthResponseDto;
+import com.almagest_dev.tacobank_auth_server.common.exception.PasswordHashingRejectedException;
 import com.almagest_dev.tacobank_auth_server.common.exception.ResponseWriter;
 import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
+import com.almagest_dev.tacobank_auth_server.common.util.CookieUtil;
 import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -15,9 +19,11 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -25,17 +31,20 @@ import org.springframework.security.web.authentication.AbstractAuthenticationPro
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class CustomAuthenticationFilter extends AbstractAuthenticationProcessingFilter {
     private final JwtProvider jwtProvider;
-    private final RedisSessionUtil redisSessionUtil;
+    private final LoginAttemptStore loginAttemptStore;
+    private final RefreshTokenStore refreshTokenStore;
 
-    public CustomAuthenticationFilter(String defaultFilterProcessesUrl, AuthenticationManager authenticationManager, JwtProvider jwtProvider, RedisSessionUtil redisSessionUtil) {
+    public CustomAuthenticationFilter(String defaultFilterProcessesUrl, AuthenticationManager authenticationManager, JwtProvider jwtProvider, LoginAttemptStore loginAttemptStore, RefreshTokenStore refreshTokenStore) {
         super(defaultFilterProcessesUrl, authenticationManager);
         this.jwtProvider = jwtProvider;
-        this.redisSessionUtil = redisSessionUtil;
+        this.loginAttemptStore = loginAttemptStore;
+        this.refreshTokenStore = refreshTokenStore;
         log.info("CustomAuthenticationFilter START");
     }
 
@@ -61,11 +70,19 @@ public class CustomAuthenticationFilter extends AbstractAuthenticationProcessing
         String password = loginRequest.getPassword();
 
         try {
-            // Redis에서 계정 잠금 상태 확인
-            if (redisSessionUtil.isLocked(username)) {
-                ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_UNAUTHORIZED, new AuthResponseDto<>("UNAUTHORIZED", "계정이 잠겨 있습니다. 10분 후 다시 시도하거나 고객센터에 문의해주세요."));
+            // Redis에서 계정 잠금 상태 조회 시작 (로컬 캐시에 잠금이 있으면 즉시 거부)
+            CompletableFuture<Boolean> locked = loginAttemptStore.isLockedAsync(username);
+            if (locked.isDone() && RedisSessionUtil.join(locked)) {
+                ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_UNAUTHORIZED, new AuthResponseDto<>("UNAUTHORIZED", lockedMessage()));
                 return null;
             }
+
+            log.info("CustomAuthenticationFilter::attemptAuthentication - username: " + username);
+
+            // 사용자 조회(DB)는 잠금 조회와 동시에 진행, 비밀번호 검증 전에 잠금 결과 확인 (CustomAuthenticationProvider)
+            UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(username, password); // 인증되지 않은 상태
+            authRequest.setDetails(new LoginLockCheck(locked));
+            return getAuthenticationManager().authenticate(authRequest);
         } catch (RedisSessionException ex) {
             log.warn("RedisSessionException - " + ex.getMessage());
             int httpStatus = ex.getHttpStatus().value();
@@ -73,12 +90,13 @@ public class CustomAuthenticationFilter extends AbstractAuthenticationProcessing
 
             ResponseWriter.writeExceptionResponse(response, httpStatus, new AuthResponseDto<>("FAILURE", message));
             return null;
+        } catch (PasswordHashingRejectedException ex) {
+            // 비밀번호 검증 대기열 초과 (실패 횟수 증가 없음)
+            log.warn("CustomAuthenticationFilter::attemptAuthentication - 비밀번호 검증 거부: {}", ex.getMessage());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+            ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, new AuthResponseDto<>("FAILURE", ex.getMessage()));
+            return null;
         }
-
-        log.info("CustomAuthenticationFilter::attemptAuthentication - username: " + username);
-
-        UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(username, password); // 인증되지 않은 상태
-        return getAuthenticationManager().authenticate(authRequest);
     }
 
     /**
@@ -90,7 +108,7 @@ public class CustomAuthenticationFilter extends AbstractAuthenticationProcessing
 
         try {
             // Redis에서 실패 횟수 초기화
-            redisSessionUtil.cleanupRedisKeys("CustomAuthenticationFilter", username, RedisKeyConstants.FAILURE_PREFIX);
+            loginAttemptStore.reset(username);
         }  catch (RedisSessionException ex) {
             log.warn("RedisSessionException - " + ex.getMessage());
             int httpStatus = ex.getHttpStatus().value();
@@ -107,9 +125,9 @@ public class CustomAuthenticationFilter extends AbstractAuthenticationProcessing
 
         // 로그인 성공시 JWT 토큰 생성 & 쿠키 세팅
         String token = jwtProvider.createToken(authResult, memberId);
-        log.info("CustomAuthenticationFilter::successfulAuthentication - token: " + token);
+        log.info("CustomAuthenticationFilter::successfulAuthentication - 토큰 발급 (memberId: {})", memberId);
 
-        Cookie authorizationCookie = new Cookie("Authorization", token);
+        Cookie authorizationCookie = new Cookie(JwtTokenResolver.AUTHORIZATION_COOKIE, token);
         authorizationCookie.setHttpOnly(true);
         authorizationCookie.setMaxAge(60 * 10); // 10분
         authorizationCookie.setPath("/"); // 모든 경로에서 쿠키가 유효하도록 설정
@@ -117,6 +135,16 @@ public class CustomAuthenticationFilter extends AbstractAuthenticationProcessing
         response.addCookie(authorizationCookie);
         response.addHeader("Authorization", "Bearer " + token);
 
+        // 리프레시 토큰 발급 (세션 연장용, /taco/auth 경로에서만 전송)
+        try {
+            String refreshToken = refreshTokenStore.issue(memberId, username);
+            response.addCookie(CookieUtil.createHttpOnlyCookie(JwtTokenResolver.REFRESH_TOKEN_COOKIE, refreshToken,
+                    refreshTokenStore.getMaxLifetimeSeconds(), JwtTokenResolver.REFRESH_TOKEN_COOKIE_PATH, true));
+        } catch (RedisSessionException ex) {
+            // 리프레시 토큰 없이 로그인 (액세스 토큰 만료시 재로그인)
+            log.warn("CustomAuthenticationFilter::successfulAuthentication - 리프레시 토큰 발급 실패: {}", ex.getMessage());
+        }
+
         // 로그인 성공 응답 반환
         LoginResponseDto responseDto = new LoginResponseDto(memberId, userDetails.getMydataLinked());
         log.info("memberId: {}, getMydataLinked: {}" , memberId, userDetails.getMydataLinked());
@@ -131,23 +159,27 @@ public class CustomAuthenticationFilter extends AbstractAuthenticationProcessing
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
         log.info("CustomAuthenticationFilter::unsuccessfulAuthentication - Authentication failed: " + failed.getMessage());
 
+        // 잠긴 계정 (비밀번호 검증 전에 거부, 실패 횟수 증가 없음)
+        if (failed instanceof LockedException) {
+            ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_UNAUTHORIZED, new AuthResponseDto<>("UNAUTHORIZED", lockedMessage()));
+            return;
+        }
+
         // 비밀번호 실패
         if (failed instanceof BadCredentialsException) {
             // Request Attribute에서 email 가져옴
             String username = (String) request.getAttribute("email");
-            String redisKey = RedisKeyConstants.FAILURE_PREFIX + username; // 실패 횟수 키
 
             try {
-                // 실패 횟수 증가
-                Long failureCount = redisSessionUtil.incrementIfExists(redisKey, 1L, 10, TimeUnit.MINUTES); // TTL 10분 설정
-                log.info("CustomAuthenticationFilter::unsuccessfulAuthentication - Failure count for {}: {}", username, failureCount);
-
-                // 실패 횟수가 5회 이상일 경우 계정 잠금 처리
-                if (failureCount >= 5) {
-                    redisSessionUtil.lockAccess(username, 10, TimeUnit.MINUTES); // 계정 잠금 상태 저장
+                // 실패 횟수 증가 & login.attempt.max-failures 이상일 경우 계정 잠금 처리 (원자적)
+                LoginAttempt attempt = loginAttemptStore.recordFailure(username);
+                log.info("CustomAuthenticationFilter::unsuccessfulAuthentication - Failure count for {}: {}", username, attempt.failureCount());
 
+                if (attempt.locked()) {
                     log.warn("CustomAuthenticationFilter::unsuccessfulAuthentication - Account locked for {}", username);
-                    ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_FORBIDDEN, new AuthResponseDto<>("FAILURE", "비밀번호 입력이 5회 이상 실패하여 계정이 10분간 잠겼습니다. 10분 후 다시 시도하거나 고객센터에 문의해주세요."));
+                    String lockTime = minutes(attempt.remainingMillis());
+                    ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_FORBIDDEN, new AuthResponseDto<>("FAILURE",
+                            "비밀번호 입력이 " + loginAttemptStore.getMaxFailures() + "회 이상 실패하여 계정이 " + lockTime + "간 잠겼습니다. " + lockTime + " 후 다시 시도하거나 고객센터에 문의해주세요."));
                     return;
                 }
 
@@ -164,4 +196,18 @@ public class CustomAuthenticationFilter extends AbstractAuthenticationProcessing
         // 실패 메시지 반환
         ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_UNAUTHORIZED, new AuthResponseDto<>("UNAUTHORIZED", "아이디 또는 비밀번호가 잘못되었습니다. 다시 시도해주세요."));
     }
+
+    /**
+     * 잠긴 계정 안내 (남은 시간을 모르는 경우 잠금 시간 login.attempt.lock-duration 기준)
+     */
+    private String lockedMessage() {
+        return "계정이 잠겨 있습니다. " + minutes(loginAttemptStore.getLockDuration().toMillis()) + " 후 다시 시도하거나 고객센터에 문의해주세요.";
+    }
+
+    /**
+     * 분 단위 표시 (올림, 최소 1분)
+     */
+    private static String minutes(long millis) {
+        return Math.max(1, (millis + TimeUnit.MINUTES.toMillis(1) - 1) / TimeUnit.MINUTES.toMillis(1)) + "분";
+    }
 }
@@ -1,7 +1,10 @@
 package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
 
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.PasswordUpgrader;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -14,10 +17,12 @@ import org.springframework.stereotype.Component;
 public class CustomAuthenticationProvider implements AuthenticationProvider {
     private final PasswordEncoder passwordEncoder;
     private final CustomUserDetailsService customUserDetailsService;
+    private final PasswordUpgrader passwordUpgrader;
 
-    public CustomAuthenticationProvider(PasswordEncoder passwordEncoder, CustomUserDetailsService customUserDetailsService) {
+    public CustomAuthenticationProvider(PasswordEncoder passwordEncoder, CustomUserDetailsService customUserDetailsService, PasswordUpgrader passwordUpgrader) {
         this.passwordEncoder = passwordEncoder;
         this.customUserDetailsService = customUserDetailsService;
+        this.passwordUpgrader = passwordUpgrader;
     }
 
     @Override
@@ -29,11 +34,21 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
             // 사용자 정보 로드
             UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
 
+            // 계정 잠금 확인 (로그인 필터에서 사용자 조회와 동시에 시작한 Redis 조회 결과 대기, 잠긴 계정은 비밀번호 검증 생략)
+            if (authentication.getDetails() instanceof LoginLockCheck lockCheck && RedisSessionUtil.join(lockCheck.locked())) {
+                throw new LockedException("계정이 잠겨 있습니다.");
+            }
+
             // 비밀번호 검증
             if (!passwordEncoder.matches(password, userDetails.getPassword())) {
                 throw new BadCredentialsException("비밀번호가 잘못되었습니다.");
             }
 
+            // 이전 형식 or 낮은 strength 의 해시는 백그라운드에서 다시 해시
+            if (userDetails instanceof CustomUserDetails customUserDetails && passwordUpgrader.needsUpgrade(userDetails.getPassword())) {
+                passwordUpgrader.upgrade(customUserDetails.getMemberId(), username, password, userDetails.getPassword());
+            }
+
             // 인증 성공 시 Password를 null로 설정
             return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
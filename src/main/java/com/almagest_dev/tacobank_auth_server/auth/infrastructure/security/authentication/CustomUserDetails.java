@@ -1,11 +1,10 @@
 package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
 
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 
 public class CustomUserDetails implements UserDetails {
@@ -27,10 +26,20 @@ public class CustomUserDetails implements UserDetails {
         this.authorities = createAuthority(role);
     }
 
+    /**
+     * 토큰 클레임으로 생성 (DB 조회 없음)
+     *  - 토큰이 발급된 회원이므로 탈퇴 여부는 N, 비밀번호와 계좌 연동 여부는 알 수 없음
+     */
+    public CustomUserDetails(Long memberId, String email, Collection<GrantedAuthority> authorities) {
+        this.memberId = memberId;
+        this.email = email;
+        this.deleted = "N";
+        this.role = authorities.isEmpty() ? null : authorities.iterator().next().getAuthority();
+        this.authorities = authorities;
+    }
+
     private Collection<GrantedAuthority> createAuthority(String role) {
-        Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority(role)); // Role을 Authority로 설정
-        return authorities;
+        return List.of(GrantedAuthorities.of(role)); // Role을 Authority로 설정
     }
 
     public Long getMemberId() {
@@ -64,7 +73,7 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public boolean isAccountNonLocked() {
-        return deleted != null && !deleted.equals('Y');
+        return deleted != null && !"Y".equals(deleted);
 
     }
 }
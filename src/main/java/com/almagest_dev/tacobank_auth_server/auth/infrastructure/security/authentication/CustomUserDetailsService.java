@@ -1,7 +1,8 @@
 package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
 
-import com.almagest_dev.tacobank_auth_server.auth.domain.model.Member;
+import com.almagest_dev.tacobank_auth_server.auth.domain.model.MemberLoginInfo;
 import com.almagest_dev.tacobank_auth_server.auth.domain.repository.MemberRepository;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.ReplicaLagGuard;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,19 +11,41 @@ import org.springframework.stereotype.Service;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
     private final MemberRepository memberRepository;
+    private final MemberLoginCache memberLoginCache;
+    private final ReplicaLagGuard replicaLagGuard;
 
-    public CustomUserDetailsService(MemberRepository memberRepository) {
+    public CustomUserDetailsService(MemberRepository memberRepository, MemberLoginCache memberLoginCache, ReplicaLagGuard replicaLagGuard) {
         this.memberRepository = memberRepository;
+        this.memberLoginCache = memberLoginCache;
+        this.replicaLagGuard = replicaLagGuard;
     }
 
     /**
      * Username: Email
+     *  - 로컬 캐시 (수정일자가 같은 경우) -> DB 순서로 조회
      * @param username the username identifying the user whose data is required.
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = memberRepository.findByEmail(username)
+        MemberLoginInfo member = memberLoginCache.get(username, this::loadFromDatabase, this::isCurrent);
+        return new CustomUserDetails(member.getMemberId(), member.getEmail(), member.getPassword(), member.getDeleted(), member.getMydataLinked(), member.getRoleName());
+    }
+
+    /**
+     * 로그인에 필요한 컬럼만 조회 (읽기 전용 트랜잭션, Member 엔티티 생성 X)
+     *  - Replica 설정시 Replica 에서 조회 (최근 변경 or Replica 에 없으면 Primary)
+     */
+    private MemberLoginInfo loadFromDatabase(String username) {
+        return replicaLagGuard.findByEmail(username, () -> memberRepository.findLoginInfoByEmail(username))
                 .orElseThrow(() -> new UsernameNotFoundException("아이디가 존재하지 않습니다."));
-        return new CustomUserDetails(member.getId(), member.getEmail(), member.getPassword(), member.getDeleted(), member.getMydataLinked(), member.getRole().getRoleName());
+    }
+
+    /**
+     * 캐시된 회원 정보의 수정일자가 DB 와 같은지 확인 (다른 서버에서 변경한 경우 다시 로드)
+     */
+    private boolean isCurrent(MemberLoginInfo member) {
+        return memberRepository.findUpdatedDateById(member.getMemberId())
+                .map(updatedDate -> updatedDate.equals(member.getUpdatedDate()))
+                .orElse(false);
     }
 }
@@ -0,0 +1,46 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 권한(GrantedAuthority) 인스턴스 재사용
+ *  - 권한 종류는 몇 개 뿐이므로 요청마다 새로 생성하지 않고 공유
+ *  - 예상치 못한 권한 이름이 많아져도 메모리가 늘지 않도록 최대 개수 제한
+ */
+public class GrantedAuthorities {
+    private static final int MAX_SIZE = 64;
+    private static final Map<String, SimpleGrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private GrantedAuthorities() {
+
+    }
+
+    /**
+     * 권한 이름 -> 공유 인스턴스
+     */
+    public static SimpleGrantedAuthority of(String role) {
+        SimpleGrantedAuthority authority = AUTHORITIES.get(role);
+        if (authority != null) return authority;
+
+        if (AUTHORITIES.size() >= MAX_SIZE) {
+            return new SimpleGrantedAuthority(role);
+        }
+        return AUTHORITIES.computeIfAbsent(role, SimpleGrantedAuthority::new);
+    }
+
+    /**
+     * 권한 이름 목록 -> 불변 권한 목록
+     */
+    public static List<GrantedAuthority> of(Collection<String> roles) {
+        return roles.stream()
+                .map(GrantedAuthorities::of)
+                .map(GrantedAuthority.class::cast)
+                .toList();
+    }
+}
@@ -1,8 +1,10 @@
 package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
 
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.TokenBlackList;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.TokenRevocationEpoch;
 import com.almagest_dev.tacobank_auth_server.common.dto.AuthResponseDto;
 import com.almagest_dev.tacobank_auth_server.common.exception.ResponseWriter;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,48 +14,39 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
-import jakarta.servlet.http.Cookie;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
+    private final JwtTokenResolver jwtTokenResolver;
     private final TokenBlackList tokenBlackList;
+    private final TokenRevocationEpoch tokenRevocationEpoch;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         log.info("JwtAuthenticationFilter::doFilterInternal");
-        // 토큰 추출
-        String token = getTokenFromCookies(request.getCookies());
-        log.info("JwtAuthenticationFilter::doFilterInternal - token: " + token);
-        if (token != null && jwtProvider.validateToken(token)) {
-            // 블랙리스트 확인
-            if (tokenBlackList.isTokenBlacklisted(token)) {
-                log.warn("JwtAuthenticationFilter::doFilterInternal - 블랙리스트 토큰 (token: {})", token);
+        // 토큰 추출 & 검증 (검증된 토큰은 Request Attribute 에 저장되어 이후 재사용)
+        VerifiedToken verifiedToken = jwtTokenResolver.resolve(request);
+        if (verifiedToken != null) {
+            log.info("JwtAuthenticationFilter::doFilterInternal - jti: " + verifiedToken.getJti());
+
+            // 블랙리스트 & 회원 전체 무효화 확인 (동시에 조회 후 대기)
+            CompletableFuture<Boolean> blacklisted = tokenBlackList.isTokenBlacklistedAsync(verifiedToken);
+            CompletableFuture<Boolean> revoked = tokenRevocationEpoch.isRevokedAsync(verifiedToken);
+            if (RedisSessionUtil.join(blacklisted) || RedisSessionUtil.join(revoked)) {
+                log.warn("JwtAuthenticationFilter::doFilterInternal - 무효화된 토큰 (jti: {})", verifiedToken.getJti());
                 ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_UNAUTHORIZED, new AuthResponseDto<>("FAILURE", "인증 정보가 유효하지 않습니다. 다시 로그인해주세요."));
                 return;
             }
 
-            Authentication authentication = jwtProvider.getAuthentication(token);
+            Authentication authentication = jwtProvider.getAuthentication(verifiedToken);
             SecurityContextHolder.getContext().setAuthentication(authentication);
             log.info("JwtAuthenticationFilter::doFilterInternal - getAuthentication : " + SecurityContextHolder.getContext().getAuthentication());
         }
         filterChain.doFilter(request, response);
     }
-
-    /**
-     * Cookie 에서 토큰 추출
-     */
-    private String getTokenFromCookies(Cookie[] cookies) {
-        if (cookies == null) return null;
-
-        for (Cookie cookie : cookies) {
-            if ("Authorization".equals(cookie.getName())) {
-                return cookie.getValue();
-            }
-        }
-        return null;
-    }
 }
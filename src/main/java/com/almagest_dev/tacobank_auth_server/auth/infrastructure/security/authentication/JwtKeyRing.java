@@ -0,0 +1,262 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 관리 (Key Ring)
+ *  - 키는 kid 로 구분하며, 활성 키 1개로 서명하고 나머지 키는 검증에만 사용
+ *  - 기본 키: jwt.secret (kid: jwt.kid, HS512), kid 헤더가 없는 기존 토큰 검증에도 사용
+ *  - 추가 키: jwt.key-ring.path 파일 (변경 시 재시작 없이 다시 로드)
+ *      {"active": "es-2024-12", "keys": [
+ *          {"kid": "es-2024-12", "alg": "ES256", "privateKey": "base64(PKCS#8)", "publicKey": "base64(X.509)"},
+ *          {"kid": "hs-2024-11", "alg": "HS512", "secret": "base64..."}]}
+ *  - 파일에서 제거된 키는 폐기되어 더 이상 검증에 사용되지 않음
+ *  - 비대칭 키(ES256/ES384/ES512)의 공개키는 JWKS 로 제공 (HS512 키는 제공하지 않음)
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Value("${jwt.kid:default}")
+    private String defaultKid;
+
+    @Value("${jwt.key-ring.path:}")
+    private String keyRingPath;
+
+    private volatile KeySet keySet;
+    private volatile FileTime keyRingLastModified;
+
+    public JwtKeyRing(ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.keySet = loadKeySet();
+        log.info("JwtKeyRing::init - 서명 키 로드 완료 (active: {}, kids: {})", keySet.activeKid(), keySet.keys().keySet());
+    }
+
+    /**
+     * Key Ring 파일 변경 감지 & 다시 로드
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-ring.refresh-interval:30000}")
+    public void refresh() {
+        if (StringUtils.isBlank(keyRingPath)) return;
+
+        try {
+            FileTime lastModified = Files.getLastModifiedTime(Path.of(keyRingPath));
+            if (lastModified.equals(keyRingLastModified)) return;
+
+            KeySet reloaded = loadKeySet();
+            this.keySet = reloaded;
+            log.info("JwtKeyRing::refresh - 서명 키 변경 (active: {}, kids: {})", reloaded.activeKid(), reloaded.keys().keySet());
+            eventPublisher.publishEvent(new JwtKeyRingChangedEvent(reloaded.activeKid()));
+        } catch (Exception e) {
+            // 잘못된 파일이 배포되어도 기존 키는 유지
+            log.error("JwtKeyRing::refresh - 서명 키 로드 실패, 기존 키 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 서명용 활성 키
+     */
+    public JwtSigningKey getActiveKey() {
+        KeySet current = keySet;
+        return current.keys().get(current.activeKid());
+    }
+
+    /**
+     * 검증용 키 조회
+     * @param kid 토큰 헤더의 kid (없으면 기본 키)
+     * @return 등록되지 않은(폐기된) kid 인 경우 null
+     */
+    public JwtSigningKey getVerificationKey(String kid) {
+        return keySet.keys().get(kid == null ? defaultKid : kid);
+    }
+
+    /**
+     * 공개키 목록 (JWKS JSON)
+     */
+    public String getJwks() {
+        return keySet.jwks();
+    }
+
+    private KeySet loadKeySet() {
+        Map<String, JwtSigningKey> keys = new LinkedHashMap<>();
+        String activeKid = defaultKid;
+
+        if (StringUtils.isNotBlank(secret)) {
+            keys.put(defaultKid, hmacKey(defaultKid, secret));
+        }
+
+        if (StringUtils.isNotBlank(keyRingPath)) {
+            Path path = Path.of(keyRingPath);
+            try {
+                FileTime lastModified = Files.getLastModifiedTime(path);
+                JsonNode root = objectMapper.readTree(path.toFile());
+
+                for (JsonNode node : root.path("keys")) {
+                    JwtSigningKey key = parseKey(node);
+                    keys.put(key.kid(), key);
+                }
+                activeKid = root.path("active").asText(activeKid);
+                this.keyRingLastModified = lastModified;
+            } catch (IOException e) {
+                throw new IllegalStateException("Key Ring 파일을 읽을 수 없습니다: " + keyRingPath, e);
+            }
+        }
+
+        JwtSigningKey activeKey = keys.get(activeKid);
+        if (activeKey == null || activeKey.signingKey() == null) {
+            throw new IllegalStateException("활성 서명 키가 없습니다. (kid: " + activeKid + ")");
+        }
+        return new KeySet(activeKid, Collections.unmodifiableMap(keys), toJwks(keys));
+    }
+
+    /**
+     * Key Ring 파일의 키 항목 파싱
+     *  - 비대칭 키는 privateKey 가 없으면 검증 전용
+     */
+    private JwtSigningKey parseKey(JsonNode node) {
+        String kid = node.path("kid").asText(null);
+        if (StringUtils.isBlank(kid)) {
+            throw new IllegalStateException("kid 가 없는 키가 있습니다.");
+        }
+
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(node.path("alg").asText(SignatureAlgorithm.HS512.getValue()));
+        if (algorithm.isHmac()) {
+            String keySecret = node.path("secret").asText(null);
+            if (StringUtils.isBlank(keySecret)) {
+                throw new IllegalStateException("secret 이 없는 키가 있습니다. (kid: " + kid + ")");
+            }
+            return hmacKey(kid, keySecret);
+        }
+
+        if (!algorithm.isEllipticCurve()) {
+            throw new IllegalStateException("지원하지 않는 서명 알고리즘 입니다. (kid: " + kid + ", alg: " + algorithm.getValue() + ")");
+        }
+
+        String publicKey = node.path("publicKey").asText(null);
+        String privateKey = node.path("privateKey").asText(null);
+        if (StringUtils.isBlank(publicKey)) {
+            throw new IllegalStateException("publicKey 가 없는 키가 있습니다. (kid: " + kid + ")");
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            PublicKey verificationKey = keyFactory.generatePublic(new X509EncodedKeySpec(Decoders.BASE64.decode(publicKey)));
+            PrivateKey signingKey = StringUtils.isBlank(privateKey) ? null : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Decoders.BASE64.decode(privateKey)));
+            return new JwtSigningKey(kid, algorithm, signingKey, verificationKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("EC 키를 읽을 수 없습니다. (kid: " + kid + ")", e);
+        }
+    }
+
+    /**
+     * Base64 시크릿 -> HS512 키 (기존 signWith(HS512, String) 과 동일한 디코딩)
+     */
+    private static JwtSigningKey hmacKey(String kid, String base64Secret) {
+        Key key = new SecretKeySpec(Decoders.BASE64.decode(base64Secret), SignatureAlgorithm.HS512.getJcaName());
+        return new JwtSigningKey(kid, SignatureAlgorithm.HS512, key, key);
+    }
+
+    /**
+     * 비대칭 키 공개키 -> JWKS (RFC 7517)
+     */
+    private String toJwks(Map<String, JwtSigningKey> keys) {
+        List<Map<String, String>> jwks = new ArrayList<>();
+
+        for (JwtSigningKey key : keys.values()) {
+            if (!(key.verificationKey() instanceof ECPublicKey publicKey)) continue;
+
+            int size = coordinateSize(key.algorithm());
+            Map<String, String> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", curveName(key.algorithm()));
+            jwk.put("x", BASE64_URL.encodeToString(toUnsignedBytes(publicKey.getW().getAffineX(), size)));
+            jwk.put("y", BASE64_URL.encodeToString(toUnsignedBytes(publicKey.getW().getAffineY(), size)));
+            jwk.put("kid", key.kid());
+            jwk.put("use", "sig");
+            jwk.put("alg", key.algorithm().getValue());
+            jwks.add(jwk);
+        }
+
+        try {
+            return objectMapper.writeValueAsString(Map.of("keys", jwks));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JWKS 생성 실패", e);
+        }
+    }
+
+    private static String curveName(SignatureAlgorithm algorithm) {
+        return switch (algorithm) {
+            case ES256 -> "P-256";
+            case ES384 -> "P-384";
+            default -> "P-521";
+        };
+    }
+
+    private static int coordinateSize(SignatureAlgorithm algorithm) {
+        return switch (algorithm) {
+            case ES256 -> 32;
+            case ES384 -> 48;
+            default -> 66;
+        };
+    }
+
+    /**
+     * 좌표값 -> 고정 길이 부호 없는 바이트 배열 (앞자리 0 패딩)
+     */
+    private static byte[] toUnsignedBytes(BigInteger value, int size) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == size) return bytes;
+
+        byte[] result = new byte[size];
+        int length = Math.min(bytes.length, size);
+        System.arraycopy(bytes, bytes.length - length, result, size - length, length);
+        return result;
+    }
+
+    private record KeySet(String activeKid, Map<String, JwtSigningKey> keys, String jwks) {
+    }
+}
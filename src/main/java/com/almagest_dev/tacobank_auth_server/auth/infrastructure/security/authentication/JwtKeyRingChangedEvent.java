@@ -0,0 +1,7 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+/**
+ * 서명 키 변경 이벤트
+ */
+public record JwtKeyRingChangedEvent(String activeKid) {
+}
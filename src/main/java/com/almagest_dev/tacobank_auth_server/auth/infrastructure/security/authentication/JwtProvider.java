@@ -1,19 +1,23 @@
 package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
 
+import com.almagest_dev.tacobank_auth_server.common.util.RandomUtil;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.security.Key;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,13 +26,41 @@ import java.util.stream.Collectors;
 @Component
 @RequiredArgsConstructor
 public class JwtProvider {
-    @Value("${jwt.secret}")
-    private String secretKey;
-
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    @Value("${jwt.stateless-authentication:false}")
+    private boolean statelessAuthentication;
+
     private final CustomUserDetailsService customUserDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtKeyRing jwtKeyRing;
+
+    private JwtParser jwtParser;
+
+    /**
+     * 토큰 파서 생성 (한 번만 생성하여 재사용)
+     *  - 토큰 헤더의 kid 로 Key Ring 에서 검증 키 조회 (HS512 시크릿 또는 EC 공개키)
+     */
+    @PostConstruct
+    public void init() {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        JwtSigningKey key = jwtKeyRing.getVerificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("등록되지 않은 서명 키 입니다. (kid: " + header.getKeyId() + ")");
+                        }
+                        // 키에 지정된 알고리즘으로 서명된 토큰만 허용 (알고리즘 혼동 방지)
+                        if (!key.algorithm().getValue().equals(header.getAlgorithm())) {
+                            throw new UnsupportedJwtException("서명 알고리즘이 일치하지 않습니다. (kid: " + header.getKeyId() + ")");
+                        }
+                        return key.verificationKey();
+                    }
+                })
+                .build();
+    }
 
     /**
      * 토큰 생성
@@ -42,102 +74,79 @@ public class JwtProvider {
                 .map(authority -> authority.getAuthority())
                 .collect(Collectors.toList());
 
+        return createToken(userDetails.getUsername(), memberId, roles);
+    }
+
+    /**
+     * 토큰 생성 - 사용자 이름, 멤버 ID, 권한 목록
+     */
+    public String createToken(String username, Long memberId, List<String> roles) {
+        JwtSigningKey signingKey = jwtKeyRing.getActiveKey();
+        long now = System.currentTimeMillis();
+
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .setId(RandomUtil.randomBase64Url(16)) // 토큰 ID (jti, 22자)
+                .setSubject(username)
                 .claim("ROLES", roles)
                 .claim("memberId", memberId)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(SignatureAlgorithm.HS512, secretKey)
+                .claim(VerifiedToken.ISSUED_AT_MILLIS_CLAIM, now) // 발급 시각 (밀리초, iat 는 초 단위)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
     }
 
     /**
-     * 토큰 유효성 검사
+     * 토큰 검증 & 파싱
+     *  - 이미 검증된 토큰은 캐시에서 반환 (만료 시간까지 유지)
+     * @return 유효하지 않은 토큰이면 null
      */
-    public boolean validateToken(String token) {
+    public VerifiedToken verify(String token) {
+        return verifiedTokenCache.get(token, this::parse);
+    }
+
+    /**
+     * 토큰 서명 검증 & 클레임 파싱
+     */
+    private VerifiedToken parse(String token) {
         try {
             // 토큰 파싱
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
+            Claims claims = jwtParser
                     .parseClaimsJws(token)
                     .getBody();
 
             // Check Member ID
             Long memberId = claims.get("memberId", Long.class);
             if (memberId == null) {
-                log.warn("JwtProvider::validateToken member ID is null");
-                return false;
+                log.warn("JwtProvider::parse member ID is null");
+                return null;
             }
 
-            return true;
-        } catch (JwtException | IllegalStateException exception) {
-            log.warn("JwtProvider::validateToken 유효하지 않은 토큰: {}", exception.getMessage());
-            return false;
+            return new VerifiedToken(token, claims);
+        } catch (JwtException | IllegalArgumentException | IllegalStateException exception) {
+            log.warn("JwtProvider::parse 유효하지 않은 토큰: {}", exception.getMessage());
+            return null;
         }
     }
 
     /**
-     * Authentication 객체 생성
-     */
-    public Authentication getAuthentication(String token) {
-        String username = getUsernameFromToken(token);
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-
-        return new UsernamePasswordAuthenticationToken(userDetails, null, getAuthoritiesFromToken(token));
-    }
-
-    /**
-     * 토큰에서 사용자 이름(username = email) 추출
-     */
-    public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    /**
-     * 토큰에서 클레임 추출
+     * 토큰 유효성 검사
      */
-    public Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public boolean validateToken(String token) {
+        return verify(token) != null;
     }
 
     /**
-     * 토큰에서 권한 정보 추출
+     * Authentication 객체 생성
+     *  - stateless 모드: 토큰 클레임(memberId, ROLES)으로 사용자 정보 생성 (DB 조회 없음)
+     *  - 기본 모드: DB 에서 사용자 정보 조회
      */
-    public Collection<SimpleGrantedAuthority> getAuthoritiesFromToken(String token) {
-        List<String> role = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("ROLES", List.class);
-
-        return role.stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-    }
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        UserDetails userDetails = statelessAuthentication
+                ? new CustomUserDetails(verifiedToken.getMemberId(), verifiedToken.getSubject(), verifiedToken.getAuthorities())
+                : customUserDetailsService.loadUserByUsername(verifiedToken.getSubject());
 
-    /**
-     * 남은 만료시간 조회
-     */
-    public long getRemainingExpiration(String token) {
-        try {
-            Claims claims = getClaimsFromToken(token); // 토큰에서 클레임 추출
-            long expirationTime = claims.getExpiration().getTime(); // 만료 시간 (밀리초)
-            return expirationTime - System.currentTimeMillis(); // 남은 시간 계산
-        } catch (Exception e) {
-            log.error("JwtProvider - 만료 시간 계산 실패: {}", e.getMessage());
-            return 0; // 실패 시 0 반환
-        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, verifiedToken.getAuthorities());
     }
 }
@@ -0,0 +1,15 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+
+/**
+ * Key Ring 에 등록된 서명 키
+ * @param kid 키 ID (토큰 헤더의 kid)
+ * @param algorithm 서명 알고리즘
+ * @param signingKey 서명 키
+ * @param verificationKey 검증 키
+ */
+public record JwtSigningKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+}
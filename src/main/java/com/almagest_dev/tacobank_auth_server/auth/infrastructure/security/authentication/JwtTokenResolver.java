@@ -0,0 +1,49 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+import com.almagest_dev.tacobank_auth_server.common.util.CookieUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청에서 토큰 추출 & 검증
+ *  - 검증된 토큰은 Request Attribute 에 저장하여 필터, 핸들러, 컨트롤러에서 재사용
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtTokenResolver {
+    public static final String AUTHORIZATION_COOKIE = "Authorization";
+    public static final String REFRESH_TOKEN_COOKIE = "RefreshToken";
+    public static final String REFRESH_TOKEN_COOKIE_PATH = "/taco/auth"; // 세션 연장, 로그아웃에서만 전송
+    private static final String VERIFIED_TOKEN_ATTRIBUTE = JwtTokenResolver.class.getName() + ".VERIFIED_TOKEN";
+
+    private final JwtProvider jwtProvider;
+
+    /**
+     * 검증된 토큰 조회
+     *  - 이미 검증된 토큰이 있으면 재사용, 없으면 쿠키에서 추출 후 검증
+     * @return 유효한 토큰이 없으면 null
+     */
+    public VerifiedToken resolve(HttpServletRequest request) {
+        Object cached = request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE);
+        if (cached instanceof VerifiedToken verifiedToken) {
+            return verifiedToken;
+        }
+
+        String token = CookieUtil.getCookieValue(request, AUTHORIZATION_COOKIE);
+        if (token == null) return null;
+
+        VerifiedToken verifiedToken = jwtProvider.verify(token);
+        if (verifiedToken != null) {
+            request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
+        }
+        return verifiedToken;
+    }
+
+    /**
+     * Cookie 에서 리프레시 토큰 추출 (검증은 RefreshTokenStore 에서 수행)
+     */
+    public static String resolveRefreshToken(HttpServletRequest request) {
+        return CookieUtil.getCookieValue(request, REFRESH_TOKEN_COOKIE);
+    }
+}
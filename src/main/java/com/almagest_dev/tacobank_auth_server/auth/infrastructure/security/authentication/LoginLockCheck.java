@@ -0,0 +1,10 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로그인 요청의 계정 잠금 조회 결과 (Authentication details)
+ *  - 로그인 필터에서 Redis 조회를 시작하고, 사용자 조회(DB) 후 비밀번호 검증 전에 결과 대기
+ */
+record LoginLockCheck(CompletableFuture<Boolean> locked) {
+}
@@ -0,0 +1,129 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+import com.almagest_dev.tacobank_auth_server.auth.domain.model.MemberLoginInfo;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.ReplicaLagGuard;
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 로그인 회원 정보 캐시 (파드 내 로컬 캐시, Caffeine)
+ *  - Key: 소문자, 앞뒤 공백 제거한 이메일 (로그인 조회와 같은 기준, 대소문자만 다른 이메일도 같은 Key)
+ *  - 같은 이메일에 대한 동시 조회는 한 번만 로드 (로드 중 evict() 는 로드가 끝난 뒤 삭제하므로 변경 전 값이 남지 않음)
+ *  - 비밀번호 해시가 포함되므로 Redis 등 공유 저장소에는 저장하지 않음
+ *  - 캐시 사용 전 수정일자 (updated_date) 확인 - 다른 서버에서 변경한 회원 정보도 다음 조회부터 반영
+ *  - 이 서버에서 변경한 경우 evict() 로 삭제 & Pub/Sub 으로 다른 파드 삭제
+ *    (다른 서버도 member:cache:evict 채널에 이메일을 발행하면 즉시 삭제, 발행하지 않아도 수정일자 확인으로 반영)
+ *  - 메트릭
+ *      cache.gets{cache=member.login}, 수정일자 변경: member.login.cache.stale
+ *      DB 로드 시간: member.login.load
+ */
+@Slf4j
+@Component
+public class MemberLoginCache implements MessageListener {
+    private static final String CACHE_NAME = "member.login";
+
+    private final RedisSessionUtil redisSessionUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final Cache<String, MemberLoginInfo> localCache;
+
+    private final Counter staleCounter;
+    private final Timer loadTimer;
+
+    public MemberLoginCache(RedisSessionUtil redisSessionUtil,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            ReplicaLagGuard replicaLagGuard,
+                            MeterRegistry meterRegistry,
+                            @Value("${member.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${member.cache.local-ttl:30s}") Duration localTtl) {
+        this.redisSessionUtil = redisSessionUtil;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.replicaLagGuard = replicaLagGuard;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+        this.staleCounter = Counter.builder("member.login.cache.stale").register(meterRegistry);
+        this.loadTimer = Timer.builder("member.login.load").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstants.MEMBER_CACHE_EVICT_CHANNEL));
+    }
+
+    /**
+     * 회원 정보 조회 (로컬 캐시 -> DB)
+     * @param loader DB 조회 (회원이 없으면 예외)
+     * @param isCurrent 캐시된 회원 정보가 최신인지 확인 (수정일자 비교)
+     */
+    public MemberLoginInfo get(String email, Function<String, MemberLoginInfo> loader, Predicate<MemberLoginInfo> isCurrent) {
+        String key = key(email);
+        MemberLoginInfo cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            if (isCurrent.test(cached)) {
+                return cached;
+            }
+            staleCounter.increment();
+            replicaLagGuard.markWritten(key); // 변경된 회원 정보를 Primary 에서 다시 로드
+            localCache.asMap().remove(key, cached);
+        }
+        return localCache.get(key, k -> loadTimer.record(() -> loader.apply(k)));
+    }
+
+    /**
+     * 회원 정보 캐시 삭제 (비밀번호, 권한, 탈퇴 여부, 계좌 연동 여부 변경시)
+     */
+    public void evict(String email) {
+        String key = key(email);
+        replicaLagGuard.markWritten(key); // 다시 로드할 때 복제 지연된 Replica 에서 조회하지 않도록
+        localCache.invalidate(key);
+
+        try {
+            redisSessionUtil.publish(RedisKeyConstants.MEMBER_CACHE_EVICT_CHANNEL, key);
+        } catch (RedisSessionException ex) {
+            // 다른 파드는 수정일자 확인으로 반영되므로 로그만 남김
+            log.warn("MemberLoginCache::evict - 캐시 삭제 발행 실패 (email: {}): {}", email, ex.getMessage());
+        }
+    }
+
+    /**
+     * 다른 파드에서 회원 정보가 변경된 경우 로컬 캐시 삭제
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String email = key(new String(message.getBody(), StandardCharsets.UTF_8));
+        replicaLagGuard.markWritten(email);
+        localCache.invalidate(email);
+        log.debug("MemberLoginCache::onMessage - 로컬 캐시 삭제 (email: {})", email);
+    }
+
+    private static String key(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+}
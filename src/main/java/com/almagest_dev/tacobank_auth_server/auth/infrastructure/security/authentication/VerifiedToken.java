@@ -0,0 +1,70 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 토큰 정보
+ *  - JwtAuthenticationFilter 에서 한 번만 파싱하여 요청 전체에서 재사용
+ */
+@Getter
+public class VerifiedToken {
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
+
+    private final String token;         // 원본 토큰
+    private final String jti;           // 토큰 ID (기존 토큰은 null)
+    private final String subject;       // 사용자 이름 (email)
+    private final Long memberId;        // 멤버 ID
+    private final List<String> roles;   // 권한 목록
+    private final List<GrantedAuthority> authorities; // 권한 목록 (공유 인스턴스)
+    private final Date issuedAt;        // 발급 시간
+    private final long issuedAtMillis;  // 발급 시각 (밀리초)
+    private final Date expiration;      // 만료 시간
+
+    @SuppressWarnings("unchecked")
+    public VerifiedToken(String token, Claims claims) {
+        this.token = token;
+        this.jti = claims.getId();
+        this.subject = claims.getSubject();
+        this.memberId = claims.get("memberId", Long.class);
+
+        List<String> roles = claims.get("ROLES", List.class);
+        this.roles = (roles == null) ? Collections.emptyList() : List.copyOf(roles);
+        this.authorities = GrantedAuthorities.of(this.roles);
+        this.issuedAt = claims.getIssuedAt();
+        this.issuedAtMillis = issuedAtMillis(claims);
+        this.expiration = claims.getExpiration();
+    }
+
+    /**
+     * 블랙리스트 식별값
+     *  - jti 가 없는 기존 토큰은 토큰 전체
+     */
+    public String getRevocationId() {
+        return (jti != null) ? jti : token;
+    }
+
+    /**
+     * 발급 시각 (밀리초)
+     *  - iatMs 클레임이 없는 기존 토큰은 iat 초의 마지막 밀리초 (같은 초의 무효화에 포함되도록)
+     */
+    private static long issuedAtMillis(Claims claims) {
+        Long millis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (millis != null) {
+            return millis;
+        }
+        return (claims.getIssuedAt() == null) ? 0L : claims.getIssuedAt().getTime() + 999;
+    }
+
+    /**
+     * 남은 만료시간 (밀리초)
+     */
+    public long getRemainingExpiration() {
+        return expiration.getTime() - System.currentTimeMillis();
+    }
+}
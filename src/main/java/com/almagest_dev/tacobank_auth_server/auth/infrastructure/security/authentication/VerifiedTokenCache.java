@@ -0,0 +1,86 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+import com.almagest_dev.tacobank_auth_server.common.util.DigestUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증된 토큰 캐시
+ *  - Key: 토큰 SHA-256 해시, Value: 검증된 토큰 정보
+ *  - 엔트리는 토큰 만료 시간(exp)에 맞춰 제거되며, 최대 크기를 넘으면 오래된 엔트리부터 제거
+ *  - 메트릭: cache.gets{result=hit|miss}, cache.evictions, cache.size (cache=jwt.verified-token)
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+    private static final String CACHE_NAME = "jwt.verified-token";
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry, @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회 - 없으면 검증 후 저장
+     *  - 동일 토큰이 동시에 요청되어도 서명 검증은 한 번만 수행
+     *  - 검증 실패(null)는 캐시하지 않음
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        String key = DigestUtil.sha256Base64Url(token);
+        VerifiedToken verifiedToken = cache.get(key, k -> verifier.apply(token));
+
+        // 해시 충돌 방지를 위해 원본 토큰 비교
+        if (verifiedToken != null && !verifiedToken.getToken().equals(token)) {
+            log.warn("VerifiedTokenCache::get - 토큰 해시 충돌 (key: {})", key);
+            return verifier.apply(token);
+        }
+        return verifiedToken;
+    }
+
+    /**
+     * 서명 키 변경시 전체 캐시 무효화
+     *  - 폐기된 키로 서명된 토큰이 캐시에 남지 않도록 다시 검증
+     */
+    @EventListener(JwtKeyRingChangedEvent.class)
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.info("VerifiedTokenCache::invalidateAll - 서명 키 변경으로 캐시 초기화");
+    }
+
+    /**
+     * 엔트리 만료 정책 - 토큰의 남은 만료 시간
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.getRemainingExpiration()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.handler;
 
 
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RefreshTokenStore;
 import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.TokenBlackList;
-import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtProvider;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtTokenResolver;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.VerifiedToken;
 import com.almagest_dev.tacobank_auth_server.common.dto.AuthResponseDto;
 import com.almagest_dev.tacobank_auth_server.common.exception.ResponseWriter;
+import com.almagest_dev.tacobank_auth_server.common.util.CookieUtil;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -21,25 +23,30 @@ import java.io.IOException;
 @Component
 @RequiredArgsConstructor
 public class CustomLogoutSuccessHandler implements LogoutSuccessHandler {
-    private final JwtProvider jwtProvider;
+    private final JwtTokenResolver jwtTokenResolver;
     private final TokenBlackList tokenBlackList;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public void onLogoutSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
         log.info("CustomLogoutSuccessHandler::onLogoutSuccess START");
 
-        // 토큰 추출
-        String token = getTokenFromCookies(request.getCookies());
-        log.info("CustomLogoutSuccessHandler::onLogoutSuccess - token: " + token);
+        // 리프레시 토큰 패밀리 삭제 & 쿠키 삭제 (쿠키 Path 가 달라 deleteCookies 로 삭제되지 않음)
+        String refreshToken = JwtTokenResolver.resolveRefreshToken(request);
+        if (refreshToken != null) {
+            refreshTokenStore.revoke(refreshToken);
+            response.addCookie(CookieUtil.createHttpOnlyCookie(JwtTokenResolver.REFRESH_TOKEN_COOKIE, null, 0, JwtTokenResolver.REFRESH_TOKEN_COOKIE_PATH, true));
+        }
+
+        // 토큰 추출 & 유효성 검증 (JwtAuthenticationFilter 에서 검증된 토큰 재사용)
+        VerifiedToken verifiedToken = jwtTokenResolver.resolve(request);
 
-        // 토큰 유효성 검증
-        if (token != null && jwtProvider.validateToken(token)) {
-            // 토큰 남은 만료 시간 계산
-            long remainingTime = jwtProvider.getRemainingExpiration(token);
+        if (verifiedToken != null) {
+            log.info("CustomLogoutSuccessHandler::onLogoutSuccess - jti: " + verifiedToken.getJti());
 
-            // 블랙리스트에 추가
-            tokenBlackList.addTokenToBlackList(token, remainingTime);
-            log.info("CustomLogoutSuccessHandler - 토큰이 블랙리스트에 추가되었습니다: {}", token);
+            // 블랙리스트에 추가 (TTL: 토큰 남은 만료 시간)
+            tokenBlackList.addTokenToBlackList(verifiedToken);
+            log.info("CustomLogoutSuccessHandler - 토큰이 블랙리스트에 추가되었습니다: {}", verifiedToken.getJti());
 
             if (authentication == null) {
                 ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_OK, new AuthResponseDto<>("FAILURE", "이미 로그아웃된 상태입니다."));
@@ -51,18 +58,4 @@ public class CustomLogoutSuccessHandler implements LogoutSuccessHandler {
         }
 
     }
-
-    /**
-     * Cookie 에서 토큰 추출
-     */
-    private String getTokenFromCookies(Cookie[] cookies) {
-        if (cookies == null) return null;
-
-        for (Cookie cookie : cookies) {
-            if ("Authorization".equals(cookie.getName())) {
-                return cookie.getValue();
-            }
-        }
-        return null;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * BCrypt 작업 비용 (strength) 측정
+ *  - 현재 CPU (파드 CPU 제한 포함) 에서 비밀번호 검증 1회가 목표 시간 이내인 가장 높은 strength 선택
+ *  - 최소 strength 보다 낮게 선택하지 않음 (목표 시간을 넘더라도 최소값 사용)
+ *  - 파드마다 결과가 다를 수 있으므로 권장값으로만 사용 (적용은 password.bcrypt.strength 로 고정)
+ */
+public final class BCryptCalibration {
+    private static final String SAMPLE_PASSWORD = "calibration_P@ssw0rd";
+    private static final int SAMPLES = 3;
+
+    private BCryptCalibration() {
+    }
+
+    /**
+     * 목표 검증 시간에 맞는 strength 선택
+     * @param target 검증 1회 목표 시간
+     */
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        int selected = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            if (strength > minStrength && measure(strength, SAMPLES).compareTo(target) > 0) {
+                break; // strength 가 1 오를 때마다 2배씩 증가하므로 이후 값은 측정하지 않음
+            }
+            selected = strength;
+        }
+        return selected;
+    }
+
+    /**
+     * 검증 1회 시간 측정 (중앙값)
+     */
+    public static Duration measure(int strength, int samples) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String encoded = encoder.encode(SAMPLE_PASSWORD); // 첫 실행 (JIT) 은 측정에서 제외
+
+        long[] elapsed = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, encoded);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return Duration.ofNanos(elapsed[samples / 2]);
+    }
+}
@@ -0,0 +1,29 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해시, 검증을 PasswordHashingExecutor 에서 실행하는 PasswordEncoder
+ *  - 로그인 (CustomAuthenticationProvider), 회원가입 (AuthService) 모두 이 Bean 을 사용
+ */
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword); // 해시 비교 없음
+    }
+}
@@ -0,0 +1,206 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password;
+
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.BreachedPasswords;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 유출 비밀번호 인덱스 (오프라인, 메모리 매핑)
+ *  - 비밀번호 SHA-1 해시 앞 8바이트 (prefix) 를 정렬하여 저장한 파일을 메모리 매핑 후 이진 탐색
+ *  - 파일은 힙이 아닌 페이지 캐시에 올라가므로 수 GB 인덱스도 힙 사용량 증가 없음 (자주 조회되는 페이지만 상주)
+ *  - 조회: 해시 상위 16비트로 구간 (fan-out 테이블) 을 찾은 후 구간 내 이진 탐색
+ *  - 8바이트 prefix 오탐 확률: 10억 건 기준 약 5 x 10^-11
+ *  - prefix 계산은 스레드별 MessageDigest & 버퍼 재사용 (조회마다 할당 없음)
+ *  - password.breached.index-path 미설정시 비활성화 (항상 false), 설정한 파일을 열 수 없으면 시작 실패
+ *  - 인덱스 생성: BreachedPasswordIndexBuilder
+ *
+ * 파일 형식 (Big Endian)
+ *  - header: magic (int, "TBPW"), version (int), 레코드 수 (long)
+ *  - fan-out: 상위 16비트별 시작 레코드 번호 (long x 65537)
+ *  - records: 정렬된 (unsigned) 중복 없는 prefix (long x 레코드 수)
+ */
+@Slf4j
+@Component
+public class BreachedPasswordIndex implements BreachedPasswords {
+    static final int MAGIC = 0x54425057; // "TBPW"
+    static final int VERSION = 1;
+    static final int FANOUT_SIZE = 1 << 16;
+    static final long FANOUT_OFFSET = 16;
+    static final long RECORDS_OFFSET = FANOUT_OFFSET + (FANOUT_SIZE + 1) * 8L;
+
+    private static final int CHUNK_SHIFT = 30; // 매핑 단위 1GB (MappedByteBuffer 최대 2GB 제한)
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private static final ThreadLocal<PrefixDigest> PREFIX_DIGEST = ThreadLocal.withInitial(PrefixDigest::new);
+
+    private final MappedByteBuffer[] chunks;
+    private final long recordCount;
+
+    public BreachedPasswordIndex(@Value("${password.breached.index-path:}") String indexPath) {
+        if (indexPath == null || indexPath.isBlank()) {
+            this.chunks = new MappedByteBuffer[0];
+            this.recordCount = 0;
+            log.info("BreachedPasswordIndex - 비활성화 (password.breached.index-path 미설정)");
+            return;
+        }
+
+        this.chunks = map(Path.of(indexPath));
+        this.recordCount = longAt(8);
+        if (longAt(0) >>> 32 != MAGIC || (int) longAt(0) != VERSION || fileSize() != RECORDS_OFFSET + recordCount * 8) {
+            throw new IllegalStateException("유출 비밀번호 인덱스 형식이 올바르지 않습니다: " + indexPath);
+        }
+        log.info("BreachedPasswordIndex - 인덱스 로드 (path: {}, records: {})", indexPath, recordCount);
+    }
+
+    public boolean isEnabled() {
+        return chunks.length > 0;
+    }
+
+    public long size() {
+        return recordCount;
+    }
+
+    @Override
+    public boolean contains(CharSequence password) {
+        if (!isEnabled() || password == null) {
+            return false;
+        }
+        return containsPrefix(prefix(password));
+    }
+
+    /**
+     * prefix 포함 여부 (이진 탐색)
+     */
+    boolean containsPrefix(long prefix) {
+        int bucket = (int) (prefix >>> 48);
+        long low = longAt(FANOUT_OFFSET + bucket * 8L);
+        long high = longAt(FANOUT_OFFSET + (bucket + 1) * 8L) - 1;
+
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int compared = Long.compareUnsigned(longAt(RECORDS_OFFSET + mid * 8), prefix);
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 비밀번호 SHA-1 해시 앞 8바이트
+     */
+    static long prefix(CharSequence password) {
+        return PREFIX_DIGEST.get().prefix(password);
+    }
+
+    static MessageDigest sha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 레코드는 8바이트 정렬이고 매핑 단위도 8의 배수이므로 long 값이 두 매핑에 걸치지 않음
+     */
+    private long longAt(long offset) {
+        return chunks[(int) (offset >>> CHUNK_SHIFT)].getLong((int) (offset & CHUNK_MASK));
+    }
+
+    private long fileSize() {
+        return ((long) (chunks.length - 1) << CHUNK_SHIFT) + chunks[chunks.length - 1].capacity();
+    }
+
+    private static MappedByteBuffer[] map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < RECORDS_OFFSET) {
+                throw new IllegalStateException("유출 비밀번호 인덱스 형식이 올바르지 않습니다: " + path);
+            }
+
+            int count = (int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long position = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_MASK + 1, size - position));
+            }
+            return chunks; // 매핑은 채널을 닫아도 유지됨
+        } catch (IOException e) {
+            throw new UncheckedIOException("유출 비밀번호 인덱스를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 스레드별 SHA-1 & 버퍼
+     *  - UTF-8 인코딩은 직접 처리 (짝이 없는 surrogate 는 StandardCharsets.UTF_8 과 같이 '?')
+     */
+    private static final class PrefixDigest {
+        private final MessageDigest digest = sha1();
+        private final byte[] hash = new byte[20];
+        private byte[] encoded = new byte[256];
+
+        long prefix(CharSequence password) {
+            int length = encode(password);
+            digest.reset();
+            digest.update(encoded, 0, length);
+            try {
+                digest.digest(hash, 0, hash.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException("SHA-1 계산 중 오류 발생", e);
+            }
+
+            long prefix = 0;
+            for (int i = 0; i < 8; i++) {
+                prefix = (prefix << 8) | (hash[i] & 0xff);
+            }
+            return prefix;
+        }
+
+        private int encode(CharSequence password) {
+            int length = password.length();
+            if (encoded.length < length * 3) {
+                encoded = new byte[length * 3]; // 문자당 최대 3바이트 (surrogate 쌍은 2문자에 4바이트)
+            }
+
+            int position = 0;
+            for (int i = 0; i < length; i++) {
+                char c = password.charAt(i);
+                if (c < 0x80) {
+                    encoded[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    encoded[position++] = (byte) (0xc0 | (c >> 6));
+                    encoded[position++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(password.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, password.charAt(++i));
+                    encoded[position++] = (byte) (0xf0 | (codePoint >> 18));
+                    encoded[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    encoded[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    encoded[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    encoded[position++] = '?';
+                } else {
+                    encoded[position++] = (byte) (0xe0 | (c >> 12));
+                    encoded[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    encoded[position++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * 유출 비밀번호 인덱스 생성 도구
+ *  - 입력: 한 줄에 SHA-1 해시 하나 (16진수 40자, 대소문자 무관, HIBP 형식의 ":건수" 는 무시), 정렬 불필요
+ *  - 출력: BreachedPasswordIndex 파일 형식 (해시 앞 8바이트 정렬, 중복 제거)
+ *  - 입력이 메모리보다 커도 되도록 외부 정렬 (chunk-records 건씩 정렬한 임시 파일을 병합)
+ *  - 실행: ./gradlew buildBreachedPasswordIndex -Pinput={해시 목록} -Poutput={인덱스 파일} [-PchunkRecords=16777216]
+ */
+@Slf4j
+public final class BreachedPasswordIndexBuilder {
+    private static final int DEFAULT_CHUNK_RECORDS = 1 << 24; // 128MB
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    private final int chunkRecords;
+
+    public BreachedPasswordIndexBuilder(int chunkRecords) {
+        this.chunkRecords = chunkRecords;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BreachedPasswordIndexBuilder <hash-list> <index-file> [chunk-records]");
+            System.exit(1);
+        }
+
+        int chunkRecords = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_CHUNK_RECORDS;
+        new BreachedPasswordIndexBuilder(chunkRecords).build(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /**
+     * 해시 목록으로 인덱스 생성 (임시 파일에 쓴 후 교체)
+     * @return 저장한 레코드 수
+     */
+    public long build(Path input, Path output) throws IOException {
+        Path workDir = Files.createTempDirectory(output.toAbsolutePath().getParent(), "breached-index");
+        try {
+            List<Path> runs = sortRuns(input, workDir);
+            Path temp = workDir.resolve("index");
+            long records = merge(runs, temp);
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("BreachedPasswordIndexBuilder::build - 인덱스 생성 완료 (output: {}, records: {})", output, records);
+            return records;
+        } finally {
+            try (Stream<Path> files = Files.list(workDir)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(workDir);
+        }
+    }
+
+    /**
+     * 입력을 chunk-records 건씩 정렬하여 임시 파일로 저장
+     *  - unsigned 순서로 정렬하기 위해 부호 비트를 뒤집어 정렬
+     */
+    private List<Path> sortRuns(Path input, Path workDir) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        long[] buffer = new long[chunkRecords];
+        int size = 0;
+        long skipped = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!isSha1(line)) {
+                    skipped++;
+                    continue;
+                }
+
+                buffer[size++] = Long.parseUnsignedLong(line.substring(0, 16), 16) ^ Long.MIN_VALUE;
+                if (size == chunkRecords) {
+                    runs.add(writeRun(buffer, size, workDir, runs.size()));
+                    size = 0;
+                }
+            }
+        }
+        if (size > 0 || runs.isEmpty()) {
+            runs.add(writeRun(buffer, size, workDir, runs.size()));
+        }
+
+        if (skipped > 0) {
+            log.warn("BreachedPasswordIndexBuilder::sortRuns - 해시 형식이 아닌 줄 {}건 제외", skipped);
+        }
+        return runs;
+    }
+
+    private static Path writeRun(long[] buffer, int size, Path workDir, int number) throws IOException {
+        Arrays.sort(buffer, 0, size);
+
+        Path run = workDir.resolve("run-" + number);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE))) {
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                long value = buffer[i] ^ Long.MIN_VALUE;
+                if (i == 0 || value != previous) {
+                    out.writeLong(value);
+                }
+                previous = value;
+            }
+        }
+        return run;
+    }
+
+    /**
+     * 정렬된 임시 파일 병합 (중복 제거) 후 header, fan-out 테이블 기록
+     */
+    private static long merge(List<Path> runs, Path output) throws IOException {
+        long[] bucketCounts = new long[BreachedPasswordIndex.FANOUT_SIZE];
+        long records = 0;
+
+        PriorityQueue<RunReader> queue = new PriorityQueue<>((a, b) -> Long.compareUnsigned(a.current, b.current));
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            try {
+                for (Path run : runs) {
+                    RunReader reader = new RunReader(run);
+                    if (reader.next()) queue.add(reader); else reader.close();
+                }
+
+                channel.position(BreachedPasswordIndex.RECORDS_OFFSET);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), IO_BUFFER_SIZE));
+                long previous = 0;
+                while (!queue.isEmpty()) {
+                    RunReader reader = queue.poll();
+                    long value = reader.current;
+                    if (records == 0 || value != previous) {
+                        out.writeLong(value);
+                        bucketCounts[(int) (value >>> 48)]++;
+                        records++;
+                        previous = value;
+                    }
+
+                    if (reader.next()) queue.add(reader); else reader.close();
+                }
+                out.flush();
+            } finally {
+                for (RunReader reader : queue) {
+                    reader.close();
+                }
+            }
+
+            ByteBuffer header = ByteBuffer.allocate((int) BreachedPasswordIndex.RECORDS_OFFSET);
+            header.putInt(BreachedPasswordIndex.MAGIC).putInt(BreachedPasswordIndex.VERSION).putLong(records);
+            long start = 0;
+            for (long count : bucketCounts) {
+                header.putLong(start);
+                start += count;
+            }
+            header.putLong(start).flip();
+
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+        return records;
+    }
+
+    private static boolean isSha1(String line) {
+        if (line.length() < 40 || (line.length() > 40 && line.charAt(40) != ':')) {
+            return false;
+        }
+        for (int i = 0; i < 40; i++) {
+            if (Character.digit(line.charAt(i), 16) < 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 정렬된 임시 파일 순차 읽기
+     */
+    private static final class RunReader implements AutoCloseable {
+        private final DataInputStream in;
+        private long current;
+
+        RunReader(Path run) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_SIZE));
+        }
+
+        boolean next() throws IOException {
+            try {
+                current = in.readLong();
+                return true;
+            } catch (EOFException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password;
+
+import com.almagest_dev.tacobank_auth_server.common.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 실행기 (Bulkhead)
+ *  - BCrypt 해시, 검증은 CPU 수만큼의 전용 스레드에서 실행 (요청 스레드는 결과 대기)
+ *  - 대기열 (password.hashing.queue-capacity) 이 가득 차거나 max-wait 안에 끝나지 않으면 즉시 거부 (503 + Retry-After)
+ *  - 로그인 폭주시에도 BCrypt 가 CPU 를 모두 차지하지 않도록 제한하여 토큰 검증 요청의 지연 시간 유지
+ *  - 메트릭: auth.password.hashing.queue, auth.password.hashing.active, auth.password.hashing.wait (대기 시간),
+ *           auth.password.hashing.execution (실행 시간), auth.password.hashing.rejected{reason=queue-full|timeout}
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final long retryAfterSeconds;
+
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${password.hashing.threads:0}") int threads, // 0: CPU 수
+                                   @Value("${password.hashing.queue-capacity:16}") int queueCapacity,
+                                   @Value("${password.hashing.max-wait:3s}") Duration maxWait,
+                                   @Value("${password.hashing.retry-after:1s}") Duration retryAfter) {
+        int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue,
+                threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.maxWait = maxWait;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+
+        Gauge.builder("auth.password.hashing.queue", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.password.hashing.wait").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.executionTimer = Timer.builder("auth.password.hashing.execution").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.queueFullCounter = Counter.builder("auth.password.hashing.rejected").tag("reason", "queue-full").register(meterRegistry);
+        this.timeoutCounter = Counter.builder("auth.password.hashing.rejected").tag("reason", "timeout").register(meterRegistry);
+
+        log.info("PasswordHashingExecutor - threads: {}, queue: {}, max-wait: {}", poolSize, queueCapacity, maxWait);
+    }
+
+    /**
+     * 전용 스레드에서 실행 후 결과 대기
+     * @throws PasswordHashingRejectedException 대기열 초과 or 대기 시간 초과
+     */
+    public <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return executionTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw rejected();
+        }
+
+        try {
+            return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false); // 대기 중이면 실행하지 않음
+            timeoutCounter.increment();
+            throw rejected();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException("비밀번호 처리 중 오류 발생", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private PasswordHashingRejectedException rejected() {
+        return new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
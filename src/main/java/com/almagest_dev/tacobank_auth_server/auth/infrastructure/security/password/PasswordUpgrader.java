@@ -0,0 +1,62 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password;
+
+import com.almagest_dev.tacobank_auth_server.auth.domain.repository.MemberRepository;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.MemberLoginCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 성공시 비밀번호 해시 업그레이드 (백그라운드)
+ *  - 현재 설정보다 낮은 strength or 이전 형식 (password.bcrypt.id-prefix 사용시 접두어 없는 BCrypt) 의 해시를 현재 설정으로 다시 해시
+ *  - 로그인 응답을 기다리게 하지 않도록 비동기 실행, 실패시 다음 로그인에서 다시 시도
+ *  - 해시가 그 사이 변경된 경우 (비밀번호 변경 등) 저장하지 않음
+ *  - 메트릭: auth.password.upgrade{result=upgraded|skipped|failed}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordUpgrader {
+    private final MemberRepository memberRepository;
+    private final MemberLoginCache memberLoginCache;
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 업그레이드 필요 여부 (해시 비교 없음)
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 비밀번호 다시 해시 & 저장
+     * @param currentPassword 로그인시 검증한 기존 해시 (변경되지 않은 경우에만 저장)
+     */
+    @Async
+    public void upgrade(Long memberId, String email, String rawPassword, String currentPassword) {
+        try {
+            String upgradedPassword = passwordEncoder.encode(rawPassword);
+
+            int updated = memberRepository.updatePasswordIfUnchanged(memberId, currentPassword, upgradedPassword);
+            if (updated == 0) {
+                record("skipped");
+                return;
+            }
+
+            memberLoginCache.evict(email);
+            record("upgraded");
+            log.info("PasswordUpgrader::upgrade - 비밀번호 해시 업그레이드 (memberId: {})", memberId);
+        } catch (Exception e) {
+            record("failed");
+            log.warn("PasswordUpgrader::upgrade - 비밀번호 해시 업그레이드 실패 (memberId: {}): {}", memberId, e.getMessage());
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("auth.password.upgrade", "result", result).increment();
+    }
+}
@@ -0,0 +1,13 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit;
+
+/**
+ * 요청 제한 판단 결과
+ * @param retryAfterSeconds 거부된 경우 재시도까지 대기 시간 (초)
+ */
+record RateLimitDecision(boolean allowed, long retryAfterSeconds) {
+    static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    static RateLimitDecision rejected(long retryAfterMillis) {
+        return new RateLimitDecision(false, Math.max(1, (retryAfterMillis + 999) / 1000));
+    }
+}
@@ -0,0 +1,124 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit;
+
+import com.almagest_dev.tacobank_auth_server.common.dto.AuthResponseDto;
+import com.almagest_dev.tacobank_auth_server.common.exception.ResponseWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 인증 API 요청 제한 필터 (로그인, 회원가입, 이메일 중복 확인)
+ *  - IP, 이메일 기준으로 제한하고 초과시 429 + Retry-After 응답
+ *  - 인증 필터(BCrypt), DB 조회 이전에 실행
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final int MAX_BODY_SIZE = 16 * 1024; // 제한 대상 API 의 요청 본문 최대 크기
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !HttpMethod.POST.matches(request.getMethod()) || findEndpoint(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Map.Entry<String, RateLimitProperties.Endpoint> endpoint = findEndpoint(request);
+        String name = endpoint.getKey();
+        RateLimitProperties.Endpoint config = endpoint.getValue();
+
+        // IP 기준
+        if (config.getIp() != null) {
+            RateLimitDecision decision = rateLimiter.tryAcquire(name, "ip", resolveClientIp(request), config.getIp());
+            if (!decision.allowed()) {
+                reject(response, decision);
+                return;
+            }
+        }
+
+        // 이메일 기준 (요청 본문은 이후 필터, 컨트롤러에서 다시 읽을 수 있도록 보관)
+        if (config.getEmail() != null) {
+            byte[] body = request.getInputStream().readNBytes(MAX_BODY_SIZE + 1);
+            if (body.length > MAX_BODY_SIZE) {
+                ResponseWriter.writeExceptionResponse(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, new AuthResponseDto<>("FAILURE", "요청 본문이 너무 큽니다."));
+                return;
+            }
+            request = new CachedBodyHttpServletRequest(request, body);
+
+            String email = extractEmail(body);
+            if (email != null) {
+                RateLimitDecision decision = rateLimiter.tryAcquire(name, "email", email, config.getEmail());
+                if (!decision.allowed()) {
+                    reject(response, decision);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Map.Entry<String, RateLimitProperties.Endpoint> findEndpoint(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, RateLimitProperties.Endpoint> entry : properties.getEndpoints().entrySet()) {
+            if (path.equals(entry.getValue().getPath())) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 클라이언트 IP
+     *  - 헤더 설정시 오른쪽에서 trustedProxyCount 번째 값 (프록시가 추가한 값만 신뢰)
+     *  - trustedProxyCount 가 0 이하면 헤더를 무시하고 remoteAddr
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        String headerName = properties.getClientIpHeader();
+        int trustedProxyCount = properties.getTrustedProxyCount();
+        String header = (headerName == null || headerName.isBlank() || trustedProxyCount <= 0) ? null : request.getHeader(headerName);
+        if (header == null || header.isBlank()) {
+            return request.getRemoteAddr();
+        }
+
+        String[] addresses = header.split(",");
+        int index = Math.max(0, addresses.length - trustedProxyCount);
+        return addresses[index].trim();
+    }
+
+    /**
+     * 요청 본문(JSON)에서 email 추출
+     * @return 없거나 JSON 이 아니면 null
+     */
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) return null;
+
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return (email != null && email.isTextual()) ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null; // 본문 검증은 이후 단계에서 처리
+        }
+    }
+
+    private static void reject(HttpServletResponse response, RateLimitDecision decision) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        ResponseWriter.writeExceptionResponse(response, 429, new AuthResponseDto<>("FAILURE", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+}
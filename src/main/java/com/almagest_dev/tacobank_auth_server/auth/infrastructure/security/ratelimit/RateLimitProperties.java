@@ -0,0 +1,64 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인증 API 요청 제한 설정 (rate-limit.*)
+ *  - 엔드포인트별로 IP, 이메일 기준 한도 설정
+ *  - capacity, refill-per-second: 파드별 로컬 토큰 버킷
+ *  - global-limit, global-window: 전체 파드 합산 한도 (Redis, sync-interval 마다 동기화)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private String clientIpHeader;       // 프록시 뒤에서 클라이언트 IP 헤더 (예: X-Forwarded-For), 없으면 remoteAddr
+    private int trustedProxyCount = 1;   // 헤더 오른쪽부터 신뢰하는 프록시 수 (왼쪽 값은 위조 가능), 0 이하면 헤더 무시
+    private Map<String, Endpoint> endpoints = defaultEndpoints();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Endpoint {
+        private String path;
+        private Limit ip;
+        private Limit email;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;                                // 파드별 최대 버스트
+        private double refillPerSecond;                      // 파드별 초당 충전량
+        private long globalLimit;                            // 전체 파드 합산 한도 (globalWindow 당)
+        private Duration globalWindow = Duration.ofMinutes(1);
+    }
+
+    private static Map<String, Endpoint> defaultEndpoints() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("login", new Endpoint("/taco/auth/login",
+                new Limit(20, 1.0, 300, Duration.ofMinutes(1)),
+                new Limit(5, 0.1, 20, Duration.ofMinutes(1))));
+        endpoints.put("signup", new Endpoint("/taco/auth/members",
+                new Limit(5, 0.05, 20, Duration.ofMinutes(1)),
+                new Limit(3, 0.05, 5, Duration.ofMinutes(1))));
+        endpoints.put("email", new Endpoint("/taco/auth/email",
+                new Limit(10, 0.2, 60, Duration.ofMinutes(1)),
+                new Limit(5, 0.1, 10, Duration.ofMinutes(1))));
+        return endpoints;
+    }
+}
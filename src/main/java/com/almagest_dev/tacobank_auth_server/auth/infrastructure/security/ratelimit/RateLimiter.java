@@ -0,0 +1,147 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit;
+
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 계층형 요청 제한
+ *  - 1단계: 파드별 로컬 토큰 버킷 (I/O 없음)
+ *  - 2단계: 전체 파드 합산 한도 (Redis) - 요청마다 조회하지 않고 sync-interval 마다 사용량 합산 후 초과한 Key 를 로컬 차단
+ *  - Redis 미반영 사용량은 최대 100,000 Key 까지 보관 (다양한 값으로 요청해도 메모리 증가 제한)
+ *      초과시 사용 빈도가 낮은 Key 부터 전체 한도 집계에서 제외 (해당 Key 는 로컬 토큰 버킷만 적용)
+ *  - Redis 장애시 로컬 토큰 버킷만 적용
+ *  - 메트릭: auth.rate-limit{endpoint, dimension, result=allowed|local|global}, 집계 제외: auth.rate-limit.pending.evicted
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+    private final RedisSessionUtil redisSessionUtil;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<String, TokenBucket> buckets;              // {endpoint}:{dimension}:{value}
+    private final Cache<String, Long> blockedUntil;                // 전체 한도 초과 Key -> 차단 종료 시각 (ms)
+    private final Cache<String, PendingCount> pending;             // Redis 미반영 사용량 (Key: Redis Key)
+
+    public RateLimiter(RedisSessionUtil redisSessionUtil, MeterRegistry meterRegistry) {
+        this.redisSessionUtil = redisSessionUtil;
+        this.meterRegistry = meterRegistry;
+
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.blockedUntil = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build();
+
+        Counter evictedCounter = Counter.builder("auth.rate-limit.pending.evicted").register(meterRegistry);
+        this.pending = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .evictionListener((String key, PendingCount pendingCount, RemovalCause cause) -> evictedCounter.increment())
+                .build();
+    }
+
+    /**
+     * 요청 1건 사용
+     * @param endpoint 엔드포인트 이름 (login, signup, email)
+     * @param dimension ip | email
+     */
+    public RateLimitDecision tryAcquire(String endpoint, String dimension, String value, RateLimitProperties.Limit limit) {
+        String localKey = endpoint + ":" + dimension + ":" + value;
+        long now = System.currentTimeMillis();
+
+        // 전체 한도 초과로 차단된 Key
+        Long until = blockedUntil.getIfPresent(localKey);
+        if (until != null && until > now) {
+            record(endpoint, dimension, "global");
+            return RateLimitDecision.rejected(until - now);
+        }
+
+        // 파드별 토큰 버킷
+        long waitNanos = buckets.get(localKey, key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond())).tryConsume();
+        if (waitNanos > 0) {
+            record(endpoint, dimension, "local");
+            return RateLimitDecision.rejected(TimeUnit.NANOSECONDS.toMillis(Math.min(waitNanos, TimeUnit.HOURS.toNanos(1))));
+        }
+
+        // 전체 한도용 사용량 적립 (sync-interval 마다 Redis 반영)
+        if (limit.getGlobalLimit() > 0) {
+            long windowMillis = limit.getGlobalWindow().toMillis();
+            long window = now / windowMillis;
+            String redisKey = RedisKeyConstants.RATE_LIMIT_PREFIX + localKey + ":" + window;
+            pending.get(redisKey, key -> new PendingCount(localKey, limit.getGlobalLimit(), (window + 1) * windowMillis, windowMillis))
+                    .count().increment();
+        }
+
+        record(endpoint, dimension, "allowed");
+        return RateLimitDecision.ALLOWED;
+    }
+
+    /**
+     * 로컬 사용량을 Redis 에 합산하고 전체 한도를 초과한 Key 차단
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sync-interval:1000}")
+    public void synchronize() {
+        Map<String, PendingCount> pendingCounts = pending.asMap();
+        if (pendingCounts.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        Map<String, Long> increments = new HashMap<>();
+        Map<String, PendingCount> snapshot = new HashMap<>();
+
+        pendingCounts.forEach((redisKey, pendingCount) -> {
+            long count = pendingCount.count().sumThenReset();
+            if (count > 0) {
+                increments.put(redisKey, count);
+                snapshot.put(redisKey, pendingCount);
+            } else if (pendingCount.windowEnd() <= now) {
+                pendingCounts.remove(redisKey, pendingCount); // 지난 윈도우
+            }
+        });
+        if (increments.isEmpty()) return;
+
+        try {
+            long maxWindow = snapshot.values().stream().mapToLong(PendingCount::windowMillis).max().orElse(0);
+            Map<String, Long> totals = redisSessionUtil.incrementAll(increments, maxWindow * 2, TimeUnit.MILLISECONDS);
+
+            totals.forEach((redisKey, total) -> {
+                PendingCount pendingCount = snapshot.get(redisKey);
+                if (total != null && total > pendingCount.globalLimit()) {
+                    blockedUntil.asMap().merge(pendingCount.localKey(), pendingCount.windowEnd(), Math::max);
+                    log.warn("RateLimiter::synchronize - 전체 요청 한도 초과 (key: {}, total: {})", pendingCount.localKey(), total);
+                }
+            });
+        } catch (Exception e) {
+            // Redis 장애시 로컬 토큰 버킷만 적용 (이번 사용량은 버림)
+            log.warn("RateLimiter::synchronize - 전체 요청 수 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void record(String endpoint, String dimension, String result) {
+        meterRegistry.counter("auth.rate-limit", "endpoint", endpoint, "dimension", dimension, "result", result).increment();
+    }
+
+    /**
+     * Redis 에 반영되지 않은 사용량
+     */
+    private record PendingCount(String localKey, long globalLimit, long windowEnd, long windowMillis, LongAdder count) {
+        PendingCount(String localKey, long globalLimit, long windowEnd, long windowMillis) {
+            this(localKey, globalLimit, windowEnd, windowMillis, new LongAdder());
+        }
+    }
+}
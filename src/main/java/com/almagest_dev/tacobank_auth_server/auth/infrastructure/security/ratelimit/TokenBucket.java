@@ -0,0 +1,35 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit;
+
+/**
+ * 토큰 버킷 (파드 로컬)
+ */
+class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(int capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 사용
+     * @return 0: 사용 가능 | 양수: 다음 토큰까지 대기 시간 (ns)
+     */
+    synchronized long tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (refillPerNano > 0) ? (long) Math.ceil((1 - tokens) / refillPerNano) : Long.MAX_VALUE;
+    }
+}
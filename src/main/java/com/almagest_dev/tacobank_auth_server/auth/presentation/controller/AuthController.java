@@ -1,22 +1,27 @@
 package com.almagest_dev.tacobank_auth_server.auth.presentation.controller;
 
+import com.almagest_dev.tacobank_auth_server.auth.application.dto.SessionTokens;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RefreshTokenStore;
 import com.almagest_dev.tacobank_auth_server.auth.presentation.dto.DuplicateEmailRequestDto;
 import com.almagest_dev.tacobank_auth_server.auth.presentation.dto.SignupRequestDTO;
 import com.almagest_dev.tacobank_auth_server.auth.application.service.AuthService;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtTokenResolver;
 import com.almagest_dev.tacobank_auth_server.common.dto.AuthResponseDto;
+import com.almagest_dev.tacobank_auth_server.common.util.CookieUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import jakarta.servlet.http.Cookie;
 
 @RestController
 @RequestMapping("/taco/auth")
 @RequiredArgsConstructor
 public class AuthController {
     private final AuthService authService;
+    private final JwtTokenResolver jwtTokenResolver;
+    private final RefreshTokenStore refreshTokenStore;
 
     /**
      * 회원가입
@@ -38,20 +43,32 @@ public class AuthController {
 
     /**
      * 세션 연장
+     *  - 리프레시 토큰으로 새 액세스 토큰 & 리프레시 토큰 발급 (액세스 토큰이 만료된 경우에도 가능)
      */
     @PostMapping("/extend-session")
     public ResponseEntity<?> extendSession(HttpServletRequest request, HttpServletResponse response) {
         // 새 토큰 발급
-        String newToken = authService.extendSession(request.getCookies());
+        SessionTokens tokens = authService.extendSession(JwtTokenResolver.resolveRefreshToken(request));
 
-        // 쿠키 설정
-        Cookie authorizationCookie = new Cookie("Authorization", newToken);
-        authorizationCookie.setHttpOnly(true);
-        authorizationCookie.setSecure(true); // HTTPS 환경에서는 true로 설정
-        authorizationCookie.setMaxAge(60 * 10); // 10분
-        authorizationCookie.setPath("/"); // 모든 경로에서 유효
-        response.addCookie(authorizationCookie);
+        // 쿠키 설정 (HTTPS 환경에서는 Secure = true)
+        response.addCookie(CookieUtil.createHttpOnlyCookie(JwtTokenResolver.AUTHORIZATION_COOKIE, tokens.accessToken(), 60 * 10, "/", true)); // 10분
+        response.addCookie(CookieUtil.createHttpOnlyCookie(JwtTokenResolver.REFRESH_TOKEN_COOKIE, tokens.refreshToken(),
+                refreshTokenStore.getMaxLifetimeSeconds(), JwtTokenResolver.REFRESH_TOKEN_COOKIE_PATH, true));
 
         return ResponseEntity.ok(new AuthResponseDto<>("SUCCESS", "세션 연장 성공"));
     }
+
+    /**
+     * 전체 로그아웃 (모든 기기)
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll(HttpServletRequest request, HttpServletResponse response) {
+        authService.logoutAll(jwtTokenResolver.resolve(request));
+
+        // 쿠키 삭제 (리프레시 토큰은 epoch 이전 생성으로 무효화됨)
+        response.addCookie(CookieUtil.createHttpOnlyCookie(JwtTokenResolver.AUTHORIZATION_COOKIE, null, 0, "/", true));
+        response.addCookie(CookieUtil.createHttpOnlyCookie(JwtTokenResolver.REFRESH_TOKEN_COOKIE, null, 0, JwtTokenResolver.REFRESH_TOKEN_COOKIE_PATH, true));
+
+        return ResponseEntity.ok(new AuthResponseDto<>("SUCCESS", "모든 기기에서 로그아웃 되었습니다."));
+    }
 }
@@ -0,0 +1,44 @@
+package com.almagest_dev.tacobank_auth_server.auth.presentation.controller;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtKeyRing;
+import com.almagest_dev.tacobank_auth_server.common.util.DigestUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+/**
+ * 토큰 검증용 공개키 제공 (JWKS)
+ *  - 다른 서비스(게이트웨이)가 인증 서버 호출 없이 직접 토큰 검증
+ *  - 새 키는 활성화 전에 max-age 이상 먼저 배포해야 캐시된 JWKS 로도 검증 가능
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRing jwtKeyRing;
+
+    @Value("${jwt.jwks.max-age:300}")
+    private long maxAgeSeconds;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> getJwks(WebRequest webRequest) {
+        String jwks = jwtKeyRing.getJwks();
+        String etag = "\"" + DigestUtil.sha256Base64Url(jwks) + "\"";
+
+        // 변경 없으면 304 Not Modified
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+                .eTag(etag)
+                .body(jwks);
+    }
+}
@@ -1,9 +1,19 @@
 package com.almagest_dev.tacobank_auth_server.common.constants;
 
 public class RedisKeyConstants { // Redis Key 상수
-    public static final String LOCK_PREFIX = "member:lock:";
-    public static final String FAILURE_PREFIX = "login:failure:";
+    public static final String LOCK_PREFIX = "member:lock:"; // 이전 버전 계정 잠금 (잠금 확인만, lock-duration 경과 후 제거)
+    public static final String LOGIN_ATTEMPT_PREFIX = "login:attempt:"; // 로그인 실패 횟수 & 잠금 (Hash)
     public static final String BLACKLIST_PREFIX = "token:blacklist:";
+    public static final String REFRESH_TOKEN_PREFIX = "token:refresh:"; // 리프레시 토큰 패밀리
+    public static final String RATE_LIMIT_PREFIX = "rate:limit:"; // 인증 API 요청 수 (전체 파드 합산)
+    public static final String TOKEN_EPOCH_PREFIX = "token:epoch:"; // 회원별 토큰 무효화 기준 시각
+
+    // Pub/Sub 채널
+    public static final String MEMBER_CACHE_EVICT_CHANNEL = "member:cache:evict"; // 회원 정보 변경 (message: email)
+    public static final String TOKEN_REVOKED_CHANNEL = "token:revoked"; // 토큰 블랙리스트 추가 (message: 블랙리스트 키 suffix)
+    public static final String LOGIN_UNLOCK_CHANNEL = "login:unlock"; // 계정 잠금 해제 (message: 소문자, 앞뒤 공백 제거한 email)
+    public static final String TOKEN_EPOCH_CHANNEL = "token:epoch"; // 회원 토큰 전체 무효화 (message: memberId:epoch)
+    public static final String MEMBER_REGISTERED_CHANNEL = "member:registered"; // 회원 가입 & 이메일 변경 (message: 줄 단위 email:{이메일})
 
     private RedisKeyConstants() {
 
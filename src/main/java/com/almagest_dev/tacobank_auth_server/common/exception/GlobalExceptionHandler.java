@@ -3,6 +3,7 @@ package com.almagest_dev.tacobank_auth_server.common.exception;
 import com.almagest_dev.tacobank_auth_server.common.dto.AuthResponseDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -81,6 +82,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    // 409 Conflict - 동시 세션 연장 (먼저 처리된 요청의 쿠키로 다시 요청)
+    @ExceptionHandler(RefreshTokenAlreadyRotatedException.class)
+    public ResponseEntity<?> handleRefreshTokenAlreadyRotatedException(RefreshTokenAlreadyRotatedException ex) {
+        log.warn("RefreshTokenAlreadyRotatedException - " + ex.getMessage());
+        AuthResponseDto response = new AuthResponseDto("FAILURE", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // 503 Service Unavailable - 비밀번호 해시 대기열 초과
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<?> handlePasswordHashingRejectedException(PasswordHashingRejectedException ex) {
+        log.warn("PasswordHashingRejectedException - " + ex.getMessage());
+        AuthResponseDto response = new AuthResponseDto("FAILURE", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
 
     // 포괄적인 서버 오류 처리
     @ExceptionHandler(Exception.class)
@@ -0,0 +1,17 @@
+package com.almagest_dev.tacobank_auth_server.common.exception;
+
+/**
+ * 비밀번호 해시 작업 거부 (대기열 초과 or 대기 시간 초과) - 503 + Retry-After 응답
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
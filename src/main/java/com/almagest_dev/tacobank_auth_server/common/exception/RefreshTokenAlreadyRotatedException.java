@@ -0,0 +1,11 @@
+package com.almagest_dev.tacobank_auth_server.common.exception;
+
+/**
+ * 이미 교체된 직전 리프레시 토큰으로 세션 연장 (동시 요청) - 409 응답
+ *  - 먼저 처리된 요청이 설정한 쿠키로 다시 요청
+ */
+public class RefreshTokenAlreadyRotatedException extends RuntimeException {
+    public RefreshTokenAlreadyRotatedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.almagest_dev.tacobank_auth_server.common.util;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+public class CookieUtil { // 쿠키 유틸
+
+    private CookieUtil() {
+
+    }
+
+    /**
+     * HttpOnly 쿠키 생성
+     * @param maxAge 유효 시간 (초), 0: 삭제
+     */
+    public static Cookie createHttpOnlyCookie(String name, String value, int maxAge, String path, boolean secure) {
+        Cookie cookie = new Cookie(name, value);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(secure);
+        cookie.setMaxAge(maxAge);
+        cookie.setPath(path);
+        return cookie;
+    }
+
+    /**
+     * 쿠키 값 조회
+     * @return 쿠키가 없으면 null
+     */
+    public static String getCookieValue(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return null;
+
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
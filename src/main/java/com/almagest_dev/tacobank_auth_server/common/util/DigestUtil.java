@@ -0,0 +1,32 @@
+package com.almagest_dev.tacobank_auth_server.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class DigestUtil { // 해시(Digest) 유틸
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private DigestUtil() {
+
+    }
+
+    /**
+     * SHA-256 해시
+     */
+    public static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * SHA-256 해시 (Base64 URL, 43자 고정 길이)
+     */
+    public static String sha256Base64Url(String value) {
+        return BASE64_URL.encodeToString(sha256(value));
+    }
+}
@@ -0,0 +1,23 @@
+package com.almagest_dev.tacobank_auth_server.common.util;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+public class RandomUtil { // 보안 난수 유틸
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private RandomUtil() {
+
+    }
+
+    /**
+     * 보안 난수 (Base64 URL)
+     *  - 16 bytes: 22자, 32 bytes: 43자
+     */
+    public static String randomBase64Url(int numBytes) {
+        byte[] bytes = new byte[numBytes];
+        SECURE_RANDOM.nextBytes(bytes);
+        return BASE64_URL.encodeToString(bytes);
+    }
+}
@@ -0,0 +1,66 @@
+package com.almagest_dev.tacobank_auth_server.common.util;
+
+import java.util.function.Consumer;
+
+/**
+ * 주기적으로 다시 생성하는 Bloom Filter (동시성 지원)
+ *  - 재생성 중에는 새 필터를 따로 채운 뒤 한 번에 교체 (조회는 기존 필터 사용)
+ *  - 재생성 중 추가된 값은 기존 필터와 새 필터에 모두 저장 (교체 후 누락 방지)
+ *  - 최초 생성 전에는 mightContain() 이 항상 true
+ */
+public class RebuildableBloomFilter {
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile BloomFilter filter;     // 현재 사용 중인 필터 (null: 생성 전)
+    private volatile BloomFilter rebuilding; // 재생성 중인 필터
+
+    /**
+     * @param expectedInsertions 예상 저장 개수
+     * @param fpp 오탐률 (예: 0.001)
+     */
+    public RebuildableBloomFilter(long expectedInsertions, double fpp) {
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+    }
+
+    /**
+     * @return false: 확실히 없음 | true: 있을 수도 있음 (생성 전 포함)
+     */
+    public boolean mightContain(String value) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(value);
+    }
+
+    /**
+     * 필터 생성 여부 (생성 전에는 mightContain 이 항상 true)
+     */
+    public boolean isBuilt() {
+        return filter != null;
+    }
+
+    public void put(String value) {
+        BloomFilter next = rebuilding;
+        if (next != null) next.put(value);
+
+        BloomFilter current = filter;
+        if (current != null) current.put(value);
+    }
+
+    /**
+     * 새 필터 생성 후 교체
+     *  - loader 가 예외를 던지면 기존 필터 유지 (예외는 그대로 전달)
+     * @param loader 새 필터에 전체 값 저장
+     */
+    public void rebuild(Consumer<BloomFilter> loader) {
+        BloomFilter next = new BloomFilter(expectedInsertions, fpp);
+        this.rebuilding = next;
+
+        try {
+            loader.accept(next);
+            this.filter = next;
+        } finally {
+            this.rebuilding = null;
+        }
+    }
+}
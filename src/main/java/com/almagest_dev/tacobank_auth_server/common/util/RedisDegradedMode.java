@@ -0,0 +1,48 @@
+package com.almagest_dev.tacobank_auth_server.common.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Redis 장애시 로컬 대체 처리 (redis.degraded-mode.enabled)
+ *  - 활성화시 Redis 조회 실패 (제한 시간 초과, Circuit Open 포함) 를 로컬 상태로 대체
+ *  - 비활성화시 예외를 그대로 전파
+ *  - 메트릭: auth.redis.fallback{operation}
+ */
+@Slf4j
+@Component
+public class RedisDegradedMode {
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+
+    public RedisDegradedMode(@Value("${redis.degraded-mode.enabled:false}") boolean enabled, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 대체 처리 여부 확인 (대체하는 경우 메트릭 기록)
+     * @return 대체 처리: true | 예외 전파: false
+     */
+    public boolean fallback(String operation, Throwable cause) {
+        if (!enabled) return false;
+
+        meterRegistry.counter("auth.redis.fallback", "operation", operation).increment();
+        log.debug("RedisDegradedMode::fallback - Redis 장애로 로컬 처리 (operation: {}, error: {})", operation, cause.getMessage());
+        return true;
+    }
+
+    /**
+     * 비동기 조회 실패시 대체값으로 완료
+     */
+    public <T> CompletableFuture<T> fallback(CompletableFuture<T> future, String operation, Supplier<T> fallbackValue) {
+        return future.exceptionallyCompose(error -> fallback(operation, error)
+                ? CompletableFuture.completedFuture(fallbackValue.get())
+                : CompletableFuture.failedFuture(error));
+    }
+}
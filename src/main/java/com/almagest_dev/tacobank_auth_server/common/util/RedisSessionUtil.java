@@ -1,25 +1,57 @@
 package com.almagest_dev.tacobank_auth_server.common.util;
 
-import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
 import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Redis 접근 유틸
+ *  - 모든 Redis 호출은 Circuit Breaker 로 보호 (Open 상태에서는 Redis 호출 없이 503 예외)
+ *  - 작업별 제한 시간 (redis.deadline.*): 비동기 조회는 timeout 연산자, 동기 호출은 Lettuce 명령별 제한 시간 (RedisConfig)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisSessionUtil {
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate; // 비동기 조회용 (Tomcat 스레드 블로킹 없음)
+    private final CircuitBreaker redisCircuitBreaker;
+
+    @Value("${redis.deadline.read:200ms}")
+    private Duration readDeadline = Duration.ofMillis(200);
+
+    @Value("${redis.deadline.script:300ms}")
+    private Duration scriptDeadline = Duration.ofMillis(300);
 
     /**
      * Redis 저장
@@ -41,7 +73,12 @@ public class RedisSessionUtil {
             }
 
             // Redis에 Set
-            redisTemplate.opsForValue().set(redisKey, valueToStore, duration, unit);
+            guard(() -> {
+                redisTemplate.opsForValue().set(redisKey, valueToStore, duration, unit);
+                return null;
+            });
+        } catch (RedisSessionException e) {
+            throw e;
         } catch (Exception e) {
             String errorMessage = (e instanceof IllegalArgumentException) ? "Redis Key 또는 데이터 직렬화 오류" : "Redis 저장 중 암호화 오류";
             throw new RedisSessionException(errorMessage, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -57,7 +94,7 @@ public class RedisSessionUtil {
         }
 
         // Redis 세션 조회
-        String sessionData = redisTemplate.opsForValue().get(redisKey);
+        String sessionData = guard(() -> redisTemplate.opsForValue().get(redisKey));
         if (sessionData == null) {
             throw new RedisSessionException("요청 내역이 존재하지 않습니다.", HttpStatus.BAD_REQUEST);
         }
@@ -78,7 +115,7 @@ public class RedisSessionUtil {
             throw new RedisSessionException("유효하지 않은 요청 입니다.", HttpStatus.BAD_REQUEST);
         }
 
-        String value = redisTemplate.opsForValue().get(redisKey);
+        String value = guard(() -> redisTemplate.opsForValue().get(redisKey));
         if (value == null) {
             throw new RedisSessionException("세션이 존재하지 않습니다.", HttpStatus.BAD_REQUEST);
         }
@@ -95,7 +132,7 @@ public class RedisSessionUtil {
         }
 
         // Redis에서 Hash 데이터를 가져옵니다.
-        Map<Object, Object> rawData = redisTemplate.opsForHash().entries(redisKey);
+        Map<Object, Object> rawData = guard(() -> redisTemplate.opsForHash().entries(redisKey));
         if (rawData == null || rawData.isEmpty()) {
             throw new RedisSessionException("세션이 존재하지 않습니다.", HttpStatus.BAD_REQUEST);
         }
@@ -122,14 +159,64 @@ public class RedisSessionUtil {
         }
 
         try {
-            String value = redisTemplate.opsForValue().get(redisKey);
-            return value;
+            return guard(() -> redisTemplate.opsForValue().get(redisKey));
+        } catch (RedisSessionException e) {
+            throw e;
         } catch (Exception e) {
             log.warn("SessionUtil::getValueIfExists Redis 키 확인 및 값 조회 중 예외 발생 - Key: {}, Error: {}", redisKey, e.getMessage());
             throw new RedisSessionException("Redis 키 확인 또는 값 조회 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * Redis 값 비동기 조회
+     *  - 여러 조회를 동시에 요청한 뒤 join 하여 가장 느린 조회만큼만 대기
+     * @return 키가 존재하면 값, 존재하지 않으면 null 로 완료
+     */
+    public CompletableFuture<String> getValueIfExistsAsync(String redisKey) {
+        if (StringUtils.isBlank(redisKey)) {
+            return CompletableFuture.failedFuture(new RedisSessionException("유효하지 않은 요청입니다.", HttpStatus.BAD_REQUEST));
+        }
+
+        return guardAsync(() -> reactiveRedisTemplate.opsForValue().get(redisKey)
+                .timeout(readDeadline)
+                .onErrorMap(e -> {
+                    log.warn("SessionUtil::getValueIfExistsAsync Redis 키 확인 및 값 조회 중 예외 발생 - Key: {}, Error: {}", redisKey, e.getMessage());
+                    return new RedisSessionException("Redis 키 확인 또는 값 조회 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+                })
+                .toFuture());
+    }
+
+    /**
+     * Lua 스크립트 비동기 실행 (단일 결과)
+     * @param args 인자는 문자열로 전달 (StringRedisSerializer)
+     */
+    public <T> CompletableFuture<T> executeScriptAsync(RedisScript<T> script, List<String> keys, String... args) {
+        return guardAsync(() -> reactiveRedisTemplate.execute(script, keys, List.of(args))
+                .next()
+                .timeout(scriptDeadline)
+                .onErrorMap(e -> {
+                    log.warn("RedisSessionUtil::executeScriptAsync 스크립트 실행 중 예외 발생 - Keys: {}, Error: {}", keys, e.getMessage());
+                    return new RedisSessionException("Redis 스크립트 실행 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+                })
+                .toFuture());
+    }
+
+    /**
+     * 비동기 조회 결과 대기
+     *  - 실패시 원래 예외 (RedisSessionException) 를 그대로 던짐
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     /**
      * Redis 업데이트
      *  - updateTtlFlag = true: 만료시간 갱신
@@ -140,92 +227,296 @@ public class RedisSessionUtil {
             String jsonData = objectMapper.writeValueAsString(data);
 
             if (updateTtlFlag) { // TTL 갱신하는 경우
-                redisTemplate.opsForValue().set(redisKey, jsonData, duration, unit);
+                guard(() -> {
+                    redisTemplate.opsForValue().set(redisKey, jsonData, duration, unit);
+                    return null;
+                });
 
             } else {
-                // 현재 TTL 가져오기
-                Long currentTtl = redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
-                if (currentTtl == null || currentTtl <= 0) {
+                // 키가 있는 경우에만 TTL 유지하며 저장 (SET XX KEEPTTL, 1 RTT)
+                Boolean updated = guard(() -> redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                        .set(toBytes(redisKey), toBytes(jsonData), Expiration.keepTtl(), RedisStringCommands.SetOption.ifPresent())));
+                if (!Boolean.TRUE.equals(updated)) {
                     throw new RedisSessionException("Redis 키의 TTL을 가져올 수 없거나 키가 만료되었습니다.", HttpStatus.BAD_REQUEST);
                 }
-
-                // 키와 데이터를 설정하되 TTL은 유지
-                redisTemplate.opsForValue().set(redisKey, jsonData, currentTtl, TimeUnit.MILLISECONDS);
             }
 
+        } catch (RedisSessionException e) {
+            throw e;
         } catch (Exception e) {
             throw new RedisSessionException("Redis 업데이트 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * Redis 일괄 조회 (MGET, 1 RTT)
+     * @return 요청한 Key 순서대로 값 반환 (없는 Key 는 null)
+     */
+    public List<String> multiGet(List<String> redisKeys) {
+        if (redisKeys.isEmpty()) return List.of();
+
+        try {
+            return guard(() -> redisTemplate.opsForValue().multiGet(redisKeys));
+        } catch (RedisSessionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("RedisSessionUtil::multiGet Redis 일괄 조회 중 예외 발생 - Keys: {}, Error: {}", redisKeys.size(), e.getMessage());
+            throw new RedisSessionException("Redis 일괄 조회 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Redis 일괄 저장 - Key 별 TTL (Pipeline, 1 RTT)
+     */
+    public void storeAllSessionData(List<SessionEntry> entries) {
+        if (entries.isEmpty()) return;
+
+        List<byte[][]> rawEntries = new ArrayList<>(entries.size());
+        for (SessionEntry entry : entries) {
+            if (entry.key() == null || entry.data() == null) {
+                throw new RedisSessionException("Key 또는 데이터가 없습니다.", HttpStatus.BAD_REQUEST);
+            }
+            rawEntries.add(new byte[][] { toBytes(entry.key()), toBytes(serialize(entry.data())) });
+        }
+
+        try {
+            guard(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < rawEntries.size(); i++) {
+                    byte[][] raw = rawEntries.get(i);
+                    connection.stringCommands().set(raw[0], raw[1], Expiration.from(entries.get(i).ttl()), RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            }));
+        } catch (RedisSessionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("RedisSessionUtil::storeAllSessionData Redis 일괄 저장 중 예외 발생 - Keys: {}, Error: {}", entries.size(), e.getMessage());
+            throw new RedisSessionException("Redis 일괄 저장 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Redis 일괄 업데이트 - 기존 TTL 유지 (SET XX KEEPTTL, Pipeline, 1 RTT)
+     *  - 값 변환은 storeSessionData 와 동일 (String 은 그대로)
+     * @return 업데이트된 Key 수 (없거나 만료된 Key 는 제외)
+     */
+    public <T> int updateAllSessionData(Map<String, T> dataByKey) {
+        if (dataByKey.isEmpty()) return 0;
+
+        Map<byte[], byte[]> rawEntries = new LinkedHashMap<>();
+        dataByKey.forEach((key, data) -> rawEntries.put(toBytes(key), toBytes(serialize(data))));
+
+        try {
+            List<Object> results = guard(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                rawEntries.forEach((rawKey, rawValue) -> connection.stringCommands()
+                        .set(rawKey, rawValue, Expiration.keepTtl(), RedisStringCommands.SetOption.ifPresent()));
+                return null;
+            }));
+            return (int) results.stream().filter(Boolean.TRUE::equals).count();
+        } catch (RedisSessionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("RedisSessionUtil::updateAllSessionData Redis 일괄 업데이트 중 예외 발생 - Keys: {}, Error: {}", dataByKey.size(), e.getMessage());
+            throw new RedisSessionException("Redis 일괄 업데이트 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Redis 키 일괄 삭제 (DEL, 1 RTT)
+     * @return 삭제된 Key 수
+     */
+    public long deleteKeys(Collection<String> redisKeys) {
+        if (redisKeys.isEmpty()) return 0;
+
+        try {
+            Long deleted = guard(() -> redisTemplate.delete(redisKeys));
+            return (deleted == null) ? 0 : deleted;
+        } catch (RedisSessionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("RedisSessionUtil::deleteKeys Redis 키 일괄 삭제 중 예외 발생 - Keys: {}, Error: {}", redisKeys.size(), e.getMessage());
+            throw new RedisSessionException("Redis 키 삭제 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Redis 키 삭제
      * @param sessionId 세션 ID
      */
     public void cleanupRedisKeys(String className, String sessionId, String... prefixes) {
-        // Redis 키 삭제 로직
+        // Redis 키 삭제 로직 (한 번의 DEL 로 삭제)
+        List<String> keys = new ArrayList<>(prefixes.length);
         for (String prefix : prefixes) {
-            String key = prefix + sessionId; // 키 생성
-            try {
-                boolean deleted = Boolean.TRUE.equals(redisTemplate.delete(key));
-                log.info("{} - [{}] Redis 키 삭제 - Key: {}, 성공 여부: {}", className, sessionId, key, deleted);
-            } catch (Exception redisEx) {
-                log.warn("{} - [{}] Redis 키 삭제 중 예외 발생 - Key: {}, Error: {}", className, sessionId, key, redisEx.getMessage());
-                throw new RedisSessionException("Redis 키 삭제 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+            keys.add(prefix + sessionId); // 키 생성
+        }
+
+        try {
+            Long deleted = guard(() -> redisTemplate.delete(keys));
+            log.info("{} - [{}] Redis 키 삭제 - Keys: {}, 삭제 수: {}", className, sessionId, keys, deleted);
+        } catch (RedisSessionException e) {
+            throw e;
+        } catch (Exception redisEx) {
+            log.warn("{} - [{}] Redis 키 삭제 중 예외 발생 - Keys: {}, Error: {}", className, sessionId, keys, redisEx.getMessage());
+            throw new RedisSessionException("Redis 키 삭제 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 여러 키 값 증가 & 만료 시간 설정 (Pipeline, 1 RTT)
+     * @param increments Key 별 증가값
+     * @return Key 별 증가된 값
+     */
+    public Map<String, Long> incrementAll(Map<String, Long> increments, long ttl, TimeUnit timeUnit) {
+        List<String> keys = new ArrayList<>(increments.keySet());
+        long ttlMillis = timeUnit.toMillis(ttl);
+
+        try {
+            List<Object> results = guard(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    byte[] raw = toBytes(key);
+                    connection.stringCommands().incrBy(raw, increments.get(key));
+                    connection.keyCommands().pExpire(raw, ttlMillis);
+                }
+                return null;
+            }));
+
+            Map<String, Long> totals = new HashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                totals.put(keys.get(i), (Long) results.get(i * 2));
             }
+            return totals;
+        } catch (RedisSessionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("RedisSessionUtil::incrementAll Redis 증분 중 예외 발생 - Keys: {}, Error: {}", keys.size(), e.getMessage());
+            throw new RedisSessionException("Redis 증분 또는 TTL 설정 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
     /**
-     * Redis 키의 값을 증가시키고 만료 시간을 설정
-     *
-     * @param redisKey Redis 키
-     * @param incrementValue 증가할 값 (기본값 1L)
-     * @param ttl 만료 시간 (null인 경우 기존 TTL 유지)
-     * @param timeUnit TTL의 단위 (ttl이 null이면 무시됨)
-     * @return 증가된 값
+     * Redis 키 삭제 (단일 키)
      */
-    public Long incrementIfExists(String redisKey, long incrementValue, long ttl, TimeUnit timeUnit) {
+    public void deleteKey(String redisKey) {
         try {
-            // 값 증가 - 값이 없을 경우, 1로 초기화
-            Long newValue = redisTemplate.opsForValue().increment(redisKey, incrementValue);
+            guard(() -> redisTemplate.delete(redisKey));
+        } catch (RedisSessionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("RedisSessionUtil::deleteKey Redis 키 삭제 중 예외 발생 - Key: {}, Error: {}", redisKey, e.getMessage());
+            throw new RedisSessionException("Redis 키 삭제 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 패턴에 맞는 키 순회 (SCAN, 서버 블로킹 없음)
+     */
+    public void scanKeys(String pattern, Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
 
-            // TTL 설정은 키가 처음 생성된 경우에만 수행
-            if (redisTemplate.getExpire(redisKey) == -1) { // -1은 만료시간이 설정되지 않았음을 의미
-                if (ttl > 0 && timeUnit != null) {
-                    redisTemplate.expire(redisKey, ttl, timeUnit);
+        try {
+            guard(() -> {
+                try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                    cursor.forEachRemaining(consumer);
                 }
-            }
+                return null;
+            });
+        } catch (RedisSessionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("RedisSessionUtil::scanKeys 키 조회 중 예외 발생 - Pattern: {}, Error: {}", pattern, e.getMessage());
+            throw new RedisSessionException("Redis 키 조회 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Lua 스크립트 실행 (EVALSHA, 스크립트 미등록시 EVAL)
+     * @param args 인자는 문자열로 전달 (StringRedisSerializer)
+     */
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        try {
+            return guard(() -> redisTemplate.execute(script, keys, args));
+        } catch (RedisSessionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("RedisSessionUtil::executeScript 스크립트 실행 중 예외 발생 - Keys: {}, Error: {}", keys, e.getMessage());
+            throw new RedisSessionException("Redis 스크립트 실행 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 
-            return newValue;
+    /**
+     * Pub/Sub 메시지 발행
+     */
+    public void publish(String channel, String message) {
+        try {
+            guard(() -> redisTemplate.convertAndSend(channel, message));
+        } catch (RedisSessionException e) {
+            throw e;
         } catch (Exception e) {
-            throw new RedisSessionException("Redis 증분 또는 TTL 설정 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+            log.warn("RedisSessionUtil::publish 메시지 발행 중 예외 발생 - Channel: {}, Error: {}", channel, e.getMessage());
+            throw new RedisSessionException("Redis 메시지 발행 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Circuit Breaker 로 보호된 동기 호출
+     *  - Open 상태면 Redis 호출 없이 503 예외
+     *  - 명령별 제한 시간 초과 (RedisCommandTimeoutException) 도 실패로 기록
+     */
+    private <T> T guard(Supplier<T> operation) {
+        if (!redisCircuitBreaker.tryAcquirePermission()) {
+            throw unavailable();
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = operation.get();
+            redisCircuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            redisCircuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
         }
     }
 
     /**
-     * 접속(계정, 인증) 잠금
+     * Circuit Breaker 로 보호된 비동기 호출
+     *  - Open 상태면 Redis 호출 없이 503 예외로 완료
      */
-    public void lockAccess(String sessionId, long duration, TimeUnit unit) {
-        String lockKey = RedisKeyConstants.LOCK_PREFIX + sessionId;
-        redisTemplate.opsForValue().set(lockKey, "LOCKED", duration, unit);
+    private <T> CompletableFuture<T> guardAsync(Supplier<CompletableFuture<T>> operation) {
+        if (!redisCircuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(unavailable());
+        }
+
+        long start = System.nanoTime();
+        return operation.get().whenComplete((result, error) -> {
+            long elapsed = System.nanoTime() - start;
+            if (error == null) {
+                redisCircuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            } else {
+                redisCircuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, error);
+            }
+        });
+    }
 
-        log.info("RedisSessionUtil::lockAccount - 접속 잠금 완료 (sessionId: {})", sessionId);
+    private static RedisSessionException unavailable() {
+        return new RedisSessionException("Redis 를 일시적으로 사용할 수 없습니다.", HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     /**
-     * 계정 or 인증 잠금 확인
-     * @param sessionId Prefix 뒤에 붙는 세션 고유값
-     * @return boolean 잠긴 경우: true | 잠기지 않은 경우: false
+     * 저장할 값 변환 (String 은 그대로, 그 외에는 JSON)
      */
-    public boolean isLocked(String sessionId) {
-        // 인증 잠금 여부 확인
-        String lockStatus = getValueIfExists(RedisKeyConstants.LOCK_PREFIX + sessionId);
-        if ("LOCKED".equals(lockStatus)) {
-            log.info("RedisSessionUtil::isLocked - 접속 잠금 상태 (sessionId: {})", sessionId);
-            return true;
+    private String serialize(Object data) {
+        if (data instanceof String value) {
+            return value;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (Exception e) {
+            throw new RedisSessionException("Redis Key 또는 데이터 직렬화 오류", HttpStatus.INTERNAL_SERVER_ERROR);
         }
-        return false;
     }
 
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
 }
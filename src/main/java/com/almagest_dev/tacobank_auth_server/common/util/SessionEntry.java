@@ -0,0 +1,10 @@
+package com.almagest_dev.tacobank_auth_server.common.util;
+
+import java.time.Duration;
+
+/**
+ * Redis 일괄 저장 항목 (Key 별 TTL)
+ * @param data String 은 그대로, 그 외에는 JSON 으로 저장
+ */
+public record SessionEntry(String key, Object data, Duration ttl) {
+}
@@ -0,0 +1,31 @@
+-- 인증 서버 테이블 (기존 ddl-auto 로 생성된 스키마와 동일)
+-- baseline 은 version 0 이므로 모든 DB 에서 실행됨: 기존 테이블, 데이터가 있어도 변경하지 않도록 작성 (IF NOT EXISTS)
+
+CREATE TABLE IF NOT EXISTS role
+(
+    id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    role_name VARCHAR(20) NOT NULL COMMENT '권한 이름'
+);
+
+CREATE TABLE IF NOT EXISTS member
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_finance_id VARCHAR(40) COMMENT '사용자 금융 식별번호',
+    email           VARCHAR(100) NOT NULL COMMENT '이메일(계정 아이디)',
+    password        VARCHAR(255) NOT NULL COMMENT '비밀번호',
+    name            VARCHAR(20)  NOT NULL COMMENT '이름',
+    birth           VARCHAR(10)  NOT NULL COMMENT '생년월일(yyMMdd)',
+    tel             VARCHAR(20)  NOT NULL COMMENT '전화번호',
+    mydata_linked   VARCHAR(1)   NOT NULL COMMENT '최초 계좌연동 여부(Y, N)',
+    transfer_pin    VARCHAR(255) COMMENT '출금 비밀번호',
+    deleted         VARCHAR(1) DEFAULT 'N' NOT NULL COMMENT '탈퇴 여부(탈퇴시, Y)',
+    role_id         BIGINT COMMENT '권한 ID',
+    created_date    DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL COMMENT '가입일자',
+    updated_date    DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL COMMENT '수정일자',
+    CONSTRAINT fk_member_role FOREIGN KEY (role_id) REFERENCES role (id)
+);
+
+INSERT INTO role (role_name)
+SELECT 'ROLE_USER'
+FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM role WHERE role_name = 'ROLE_USER');
@@ -0,0 +1,16 @@
+-- 인증 조회 경로별 인덱스
+--  - 이메일 조회 (로그인, 중복 확인): email_normalized + deleted
+--  - 전화번호 중복 확인: tel + deleted
+--  - 권한 조회: role_name (unique)
+-- email_normalized: 소문자, 앞뒤 공백 제거한 이메일 (생성 컬럼, 다른 서버의 INSERT/UPDATE 에도 자동 반영)
+-- active_email: 탈퇴하지 않은 회원만 값이 있는 생성 컬럼 (탈퇴 회원은 NULL 이므로 같은 이메일로 재가입 가능)
+-- 주의: 탈퇴하지 않은 회원 중 이메일이 중복된 데이터가 있으면 uk_member_active_email 생성 실패 (적용 전 정리 필요)
+
+ALTER TABLE member
+    ADD COLUMN email_normalized VARCHAR(100) AS (LOWER(TRIM(email))) STORED COMMENT '정규화 이메일(소문자, 앞뒤 공백 제거)',
+    ADD COLUMN active_email     VARCHAR(100) AS (IF(deleted = 'N', LOWER(TRIM(email)), NULL)) STORED COMMENT '탈퇴하지 않은 회원 이메일(중복 방지)';
+
+CREATE INDEX idx_member_email_normalized_deleted ON member (email_normalized, deleted);
+CREATE UNIQUE INDEX uk_member_active_email ON member (active_email);
+CREATE INDEX idx_member_tel_deleted ON member (tel, deleted);
+CREATE UNIQUE INDEX uk_role_role_name ON role (role_name);
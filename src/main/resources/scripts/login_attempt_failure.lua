@@ -0,0 +1,21 @@
+-- 로그인 실패 기록 (잠금 확인 + 실패 횟수 증가 + TTL + 잠금을 한 번에 처리)
+-- KEYS[1]: login:attempt:{email} (Hash) - f: 실패 횟수, l: 잠금 여부
+-- ARGV[1]: 최대 실패 횟수, ARGV[2]: 실패 횟수 유지 시간 (ms), ARGV[3]: 잠금 시간 (ms)
+-- return: {실패 횟수, 상태, 남은 시간 (ms)}
+--   상태 0: 실패 기록 | 1: 이번 실패로 잠금 | 2: 이미 잠긴 계정 (기록하지 않음)
+if redis.call('HEXISTS', KEYS[1], 'l') == 1 then
+    return {tonumber(redis.call('HGET', KEYS[1], 'f') or '0'), 2, redis.call('PTTL', KEYS[1])}
+end
+
+local failures = redis.call('HINCRBY', KEYS[1], 'f', 1)
+if failures >= tonumber(ARGV[1]) then
+    redis.call('HSET', KEYS[1], 'l', '1')
+    redis.call('PEXPIRE', KEYS[1], ARGV[3])
+    return {failures, 1, tonumber(ARGV[3])}
+end
+
+-- 첫 실패 시점부터 유지 시간 계산 (이후 실패에서는 TTL 유지)
+if redis.call('PTTL', KEYS[1]) < 0 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return {failures, 0, redis.call('PTTL', KEYS[1])}
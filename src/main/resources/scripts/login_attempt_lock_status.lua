@@ -0,0 +1,11 @@
+-- 계정 잠금 확인
+-- KEYS[1]: login:attempt:{email} (Hash) - l: 잠금 여부
+-- KEYS[2] (선택): member:lock:{email} - 이전 버전 잠금 (값: LOCKED), 남은 TTL 동안만 확인
+-- return: 잠긴 경우 남은 잠금 시간 (ms) | 잠기지 않은 경우 0
+if redis.call('HEXISTS', KEYS[1], 'l') == 1 then
+    return redis.call('PTTL', KEYS[1])
+end
+if KEYS[2] and redis.call('GET', KEYS[2]) == 'LOCKED' then
+    return redis.call('PTTL', KEYS[2])
+end
+return 0
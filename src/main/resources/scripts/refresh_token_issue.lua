@@ -0,0 +1,6 @@
+-- 리프레시 토큰 패밀리 생성
+-- KEYS[1]: token:refresh:{familyId}
+-- ARGV[1]: 토큰 digest, ARGV[2]: memberId, ARGV[3]: email, ARGV[4]: 생성 시각 (ms), ARGV[5]: TTL (ms)
+redis.call('HSET', KEYS[1], 'd', ARGV[1], 'm', ARGV[2], 'e', ARGV[3], 'c', ARGV[4])
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+return 1
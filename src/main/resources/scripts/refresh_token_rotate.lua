@@ -0,0 +1,23 @@
+-- 리프레시 토큰 교체 (Compare-And-Set)
+-- KEYS[1]: token:refresh:{familyId}
+-- ARGV[1]: 제시된 토큰 digest, ARGV[2]: 새 토큰 digest, ARGV[3]: TTL (ms), ARGV[4]: 현재 시각 (ms), ARGV[5]: 직전 토큰 허용 시간 (ms)
+-- return: {상태, memberId, email, 생성 시각}
+--   상태 1: 교체 완료 | 2: 직전 토큰 (허용 시간 이내, 동시 요청) | 0: 패밀리 없음 (만료, 로그아웃) | -1: 이전 토큰 재사용 (패밀리 삭제)
+local family = redis.call('HMGET', KEYS[1], 'd', 'm', 'e', 'c', 'p', 't')
+if not family[1] then
+    return {'0'}
+end
+
+if family[1] == ARGV[1] then
+    redis.call('HSET', KEYS[1], 'd', ARGV[2], 'p', ARGV[1], 't', ARGV[4])
+    redis.call('PEXPIRE', KEYS[1], ARGV[3])
+    return {'1', family[2], family[3], family[4]}
+end
+
+-- 직전 토큰: 교체 직후면 동시 요청 (다른 탭, 응답 전 재시도) 으로 판단하여 패밀리 유지
+if family[5] == ARGV[1] and tonumber(ARGV[4]) - tonumber(family[6]) <= tonumber(ARGV[5]) then
+    return {'2', family[2], family[3], family[4]}
+end
+
+redis.call('DEL', KEYS[1])
+return {'-1', family[2], family[3], family[4]}
@@ -2,9 +2,18 @@ package com.almagest_dev.tacobank_auth_server;
 
 import com.almagest_dev.tacobank_auth_server.auth.application.service.AuthService;
 import com.almagest_dev.tacobank_auth_server.auth.domain.model.Role;
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.BreachedPasswords;
 import com.almagest_dev.tacobank_auth_server.auth.domain.repository.MemberRepository;
 import com.almagest_dev.tacobank_auth_server.auth.domain.repository.RoleRepository;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RefreshTokenStore;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RegisteredMemberFilter;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RotatedRefreshToken;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.CustomUserDetails;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.CustomUserDetailsService;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtProvider;
+import com.almagest_dev.tacobank_auth_server.auth.presentation.dto.DuplicateEmailRequestDto;
 import com.almagest_dev.tacobank_auth_server.auth.presentation.dto.SignupRequestDTO;
+import com.almagest_dev.tacobank_auth_server.common.exception.InvalidTokenException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -35,6 +45,21 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private BreachedPasswords breachedPasswords;
+
+    @Mock
+    private RegisteredMemberFilter registeredMemberFilter;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Mock
+    private JwtProvider jwtProvider;
+
     @BeforeEach
     void setUp() {
         Role roleUser = new Role();
@@ -43,6 +68,9 @@ class AuthServiceTest {
         // Mock 동작 설정 (lenient 사용)
         lenient().when(roleRepository.findByRoleName("ROLE_USER"))
                 .thenReturn(Optional.of(roleUser));
+
+        // Bloom Filter 는 항상 DB 확인 필요로 응답
+        lenient().when(registeredMemberFilter.mightContainEmail(anyString())).thenReturn(true);
     }
 
     @Test
@@ -162,4 +190,77 @@ class AuthServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("비밀번호는 최소 8자 이상이어야 합니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("회원가입 실패 - 유출된 비밀번호")
+    void registerMemberFailDueToBreachedPassword() {
+        // Given: 규칙은 통과하지만 유출 목록에 있는 비밀번호
+        SignupRequestDTO requestDTO = new SignupRequestDTO(
+                "test@example.com",
+                "John Doe",
+                "900101",
+                "securePassword1!",
+                "01012345678"
+        );
+        when(breachedPasswords.contains("securePassword1!")).thenReturn(true);
+
+        // When & Then: 예외 발생 검증
+        assertThatThrownBy(() -> authService.registerMember(requestDTO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("유출된 것으로 알려진 비밀번호");
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - Bloom Filter 에 없는 이메일이어도 DB 중복 확인 (전화번호 중복)")
+    void registerMemberChecksDatabaseWhenFilterNegative() {
+        // Given: 가입 회원 필터에 없는 이메일
+        SignupRequestDTO requestDTO = new SignupRequestDTO(
+                "new@example.com",
+                "John Doe",
+                "900101",
+                "securePassword1!",
+                "01087654321"
+        );
+        lenient().when(registeredMemberFilter.mightContainEmail("new@example.com")).thenReturn(false);
+        when(memberRepository.existsByEmailAndDeleted("new@example.com", "N")).thenReturn(false);
+        when(memberRepository.existsByTelAndDeletedNot("01087654321", "Y")).thenReturn(true); // 다른 파드에서 방금 가입
+
+        // When & Then: 필터 결과와 관계없이 DB 조회
+        assertThatThrownBy(() -> authService.registerMember(requestDTO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("해당 전화번호로 이미 등록된 계정이 있습니다");
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("이메일 중복 확인 - Bloom Filter 에 없는 이메일은 DB 조회 생략")
+    void checkDuplicateEmailSkipsQueryWhenFilterNegative() {
+        // Given: 가입 회원 필터에 없는 이메일
+        DuplicateEmailRequestDto requestDto = new DuplicateEmailRequestDto();
+        ReflectionTestUtils.setField(requestDto, "email", "new@example.com");
+        when(registeredMemberFilter.mightContainEmail("new@example.com")).thenReturn(false);
+
+        // When
+        authService.checkDuplicateEmail(requestDto);
+
+        // Then
+        verify(memberRepository, never()).existsByEmailAndDeleted(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("세션 연장 실패 - 탈퇴한 회원")
+    void extendSessionFailForWithdrawnMember() {
+        // Given: 리프레시 토큰은 유효하지만 탈퇴한 회원
+        when(refreshTokenStore.rotate("family.secret"))
+                .thenReturn(new RotatedRefreshToken(1L, "test@example.com", "family.rotated"));
+        when(customUserDetailsService.loadUserByUsername("test@example.com"))
+                .thenReturn(new CustomUserDetails(1L, "test@example.com", "encodedPassword", "Y", "N", "ROLE_USER"));
+
+        // When & Then: 새 토큰 발급 없이 교체된 리프레시 토큰 삭제
+        assertThatThrownBy(() -> authService.extendSession("family.secret"))
+                .isInstanceOf(InvalidTokenException.class);
+        verify(refreshTokenStore).revoke("family.rotated");
+        verify(jwtProvider, never()).createToken(anyString(), anyLong(), anyList());
+    }
+}
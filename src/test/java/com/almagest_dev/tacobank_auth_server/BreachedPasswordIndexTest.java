@@ -0,0 +1,86 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.BreachedPasswordIndex;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.BreachedPasswordIndexBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BreachedPasswordIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("해시 목록으로 생성한 인덱스에서 유출 비밀번호 조회 (외부 정렬, 중복, HIBP 형식 포함)")
+    void buildAndLookup() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String hash = sha1Hex("breached" + (i % 7_000)); // 중복 포함
+            lines.add((i % 2 == 0) ? hash.toUpperCase() + ":" + i : hash);
+        }
+        lines.add("not a hash");
+        Path input = Files.write(dir.resolve("hashes.txt"), lines);
+        Path output = dir.resolve("breached.idx");
+
+        long records = new BreachedPasswordIndexBuilder(1_000).build(input, output);
+        BreachedPasswordIndex index = new BreachedPasswordIndex(output.toString());
+
+        assertThat(records).isEqualTo(7_000);
+        assertThat(index.size()).isEqualTo(7_000);
+        for (int i = 0; i < 7_000; i++) {
+            assertThat(index.contains("breached" + i)).isTrue();
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(index.contains("safe" + i)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("한글, 이모지, 짝이 없는 surrogate 비밀번호도 UTF-8 해시로 조회")
+    void lookupNonAscii() throws Exception {
+        List<String> passwords = List.of("비밀번호123!", "pässwörd", "p@ss\uD83D\uDE00word", "broken\uD800", "\uDC00broken", "");
+        List<String> lines = new ArrayList<>();
+        for (String password : passwords) {
+            lines.add(sha1Hex(password));
+        }
+        Path input = Files.write(dir.resolve("hashes.txt"), lines);
+        Path output = dir.resolve("breached.idx");
+        new BreachedPasswordIndexBuilder(1_000).build(input, output);
+        BreachedPasswordIndex index = new BreachedPasswordIndex(output.toString());
+
+        // 같은 스레드에서 반복 조회 (버퍼 재사용)
+        for (int i = 0; i < 2; i++) {
+            for (String password : passwords) {
+                assertThat(index.contains(password)).isTrue();
+                assertThat(index.contains(new StringBuilder(password).append('x'))).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("경로 미설정시 비활성화, 형식이 다른 파일은 시작 실패")
+    void disabledOrInvalid() throws Exception {
+        assertThat(new BreachedPasswordIndex("").contains("password")).isFalse();
+
+        Path invalid = Files.write(dir.resolve("invalid.idx"), new byte[600_000]);
+        assertThatThrownBy(() -> new BreachedPasswordIndex(invalid.toString()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String sha1Hex(String password) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash);
+    }
+}
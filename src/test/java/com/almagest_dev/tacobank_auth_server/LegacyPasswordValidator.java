@@ -0,0 +1,98 @@
+package com.almagest_dev.tacobank_auth_server;
+
+/**
+ * 변경 전 비밀번호 규칙 검사 (AuthService 정규식 구현 그대로)
+ *  - PasswordPolicy 동등성 테스트, 벤치마크 비교 대상
+ */
+public final class LegacyPasswordValidator {
+    private static final String ALLOWED_SPECIAL_CHARACTERS = "!@_";
+
+    private LegacyPasswordValidator() {
+    }
+
+    /**
+     * 비밀번호 규칙 검사
+     */
+    public static void validatePassword(String password, int minLen, String birth, String tel) {
+        if (!isValidLength(password, minLen)) {
+            throw new IllegalArgumentException("비밀번호는 최소 " + minLen + "자 이상이어야 합니다.");
+        }
+        if (!containsAllowedCharacters(password)) {
+            throw new IllegalArgumentException("비밀번호는 허용되지 않은 문자를 포함할 수 없습니다.");
+        }
+        if (containsSensitiveInfo(password, birth, tel)) {
+            throw new IllegalArgumentException("비밀번호에 생년월일 또는 전화번호를 포함할 수 없습니다.");
+        }
+        if (!containsRequiredTypes(password)) {
+            throw new IllegalArgumentException("비밀번호에는 영문자, 숫자, 특수문자가 최소 1개 이상 포함되어야 합니다.");
+        }
+        if (hasRepeatedNumbers(password)) {
+            throw new IllegalArgumentException("비밀번호에 동일한 숫자가 3번 이상 반복될 수 없습니다.");
+        }
+        if (hasSequentialNumbers(password)) {
+            throw new IllegalArgumentException("비밀번호에 연속된 숫자가 포함될 수 없습니다.");
+        }
+    }
+
+    public static boolean isValidLength(String str, int minLen) {
+        return str != null && str.length() >= minLen;
+    }
+
+    public static boolean containsAllowedCharacters(String str) {
+        return str.matches("^[a-zA-Z0-9" + ALLOWED_SPECIAL_CHARACTERS + "]+$");
+    }
+
+    public static boolean containsSensitiveInfo(String str, String birth, String tel) {
+        if (birth == null || birth.trim().isEmpty() ||
+                tel == null || tel.trim().isEmpty()) {
+            return true;
+        }
+
+        String sanitizedBirthDate = removeNonDigits(birth);
+        String sanitizedTel = removeNonDigits(tel);
+        if (sanitizedBirthDate.isEmpty() || sanitizedTel.isEmpty()) {
+            return true;
+        }
+
+        if (str.contains(sanitizedBirthDate.substring(0, 2))
+                || str.contains(sanitizedBirthDate.substring(2))
+                || str.contains(sanitizedBirthDate)
+        ) {
+            return true;
+        }
+
+        return str.contains(sanitizedTel);
+    }
+
+    public static boolean containsRequiredTypes(String str) {
+        return str.matches(".*[a-zA-Z].*") &&
+                str.matches(".*[0-9].*") &&
+                str.matches(".*[" + ALLOWED_SPECIAL_CHARACTERS + "].*");
+    }
+
+    public static boolean hasRepeatedNumbers(String str) {
+        return str.matches(".*(\\d)\\1{2,}.*");
+    }
+
+    public static boolean hasSequentialNumbers(String str) {
+        for (int i = 0; i < str.length() - 2; i++) {
+            char first = str.charAt(i);
+            char second = str.charAt(i + 1);
+            char third = str.charAt(i + 2);
+
+            if (Character.isDigit(first) && Character.isDigit(second) && Character.isDigit(third)) {
+                int diff1 = second - first;
+                int diff2 = third - second;
+
+                if (diff1 == diff2 && Math.abs(diff1) == 1) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String removeNonDigits(String input) {
+        return input == null ? "" : input.replaceAll("[^0-9]", "");
+    }
+}
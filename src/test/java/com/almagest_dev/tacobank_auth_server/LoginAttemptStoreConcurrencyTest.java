@@ -0,0 +1,176 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.AccountLockCache;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.LoginAttempt;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.LoginAttemptStore;
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisDegradedMode;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 실패 기록 동시성 테스트 (Redis 필요)
+ *  - 실행: REDIS_HOST=localhost ./gradlew test --tests LoginAttemptStoreConcurrencyTest
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class LoginAttemptStoreConcurrencyTest {
+    private static final String EMAIL = "concurrency-test@tacobank.com";
+    private static final int MAX_FAILURES = 5;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private LoginAttemptStore loginAttemptStore;
+
+    @BeforeAll
+    static void setUpRedis() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        redisTemplate.delete(RedisKeyConstants.LOGIN_ATTEMPT_PREFIX + EMAIL);
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        RedisSessionUtil redisSessionUtil = new RedisSessionUtil(redisTemplate, new ObjectMapper(), new ReactiveStringRedisTemplate(connectionFactory), CircuitBreaker.ofDefaults("redis"));
+        AccountLockCache accountLockCache = new AccountLockCache(null, new SimpleMeterRegistry(), 1000); // Pub/Sub 구독 없음
+        loginAttemptStore = new LoginAttemptStore(redisSessionUtil, accountLockCache, new RedisDegradedMode(false, new SimpleMeterRegistry()), MAX_FAILURES, Duration.ofMinutes(10), Duration.ofMinutes(10));
+        loginAttemptStore.reset(EMAIL);
+    }
+
+    @Test
+    @DisplayName("동시 로그인 실패 - 실패 횟수는 정확히 5회까지 기록되고 한 번만 잠김")
+    void concurrentFailuresLockExactlyOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<LoginAttempt> results = new ConcurrentLinkedQueue<>();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < ATTEMPTS_PER_THREAD; j++) {
+                    results.add(loginAttemptStore.recordFailure(EMAIL));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // 실패 기록 (잠금 전) 은 1 ~ 4 회 각각 한 번씩
+        assertThat(results).filteredOn(attempt -> !attempt.locked())
+                .extracting(LoginAttempt::failureCount)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+
+        // 잠금은 5회째 실패에서 한 번만
+        assertThat(results).filteredOn(LoginAttempt::lockedNow)
+                .extracting(LoginAttempt::failureCount)
+                .containsExactly((long) MAX_FAILURES);
+
+        // 이후 시도는 모두 잠긴 상태로 응답 & 실패 횟수 증가 없음
+        assertThat(results).filteredOn(attempt -> attempt.locked() && !attempt.lockedNow())
+                .hasSize(THREADS * ATTEMPTS_PER_THREAD - MAX_FAILURES)
+                .allSatisfy(attempt -> assertThat(attempt.failureCount()).isEqualTo(MAX_FAILURES));
+
+        // 잠금 상태 & TTL 설정 확인
+        assertThat(loginAttemptStore.isLocked(EMAIL)).isTrue();
+        Long ttl = redisTemplate.getExpire(RedisKeyConstants.LOGIN_ATTEMPT_PREFIX + EMAIL, TimeUnit.SECONDS);
+        assertThat(ttl).isBetween(1L, TimeUnit.MINUTES.toSeconds(10));
+    }
+
+    @Test
+    @DisplayName("첫 실패부터 실패 횟수 유지 시간(TTL) 설정")
+    void firstFailureSetsTtl() {
+        LoginAttempt attempt = loginAttemptStore.recordFailure(EMAIL);
+
+        assertThat(attempt.failureCount()).isEqualTo(1L);
+        assertThat(attempt.locked()).isFalse();
+        assertThat(attempt.remainingMillis()).isPositive();
+        assertThat(loginAttemptStore.isLocked(EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대소문자, 공백이 다른 email 도 같은 계정으로 실패 횟수 합산")
+    void caseVariantsShareFailureCount() {
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            String variant = (i % 2 == 0) ? EMAIL.toUpperCase() : " " + EMAIL + " ";
+            loginAttemptStore.recordFailure(variant);
+        }
+
+        assertThat(loginAttemptStore.isLocked(EMAIL)).isTrue();
+        assertThat(loginAttemptStore.isLocked(EMAIL.toUpperCase())).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 버전 잠금 (member:lock:) 은 남은 TTL 동안 유지")
+    void legacyLockIsHonored() {
+        String legacyKey = RedisKeyConstants.LOCK_PREFIX + EMAIL;
+        redisTemplate.opsForValue().set(legacyKey, "LOCKED", 1, TimeUnit.MINUTES);
+        try {
+            assertThat(loginAttemptStore.isLocked(EMAIL)).isTrue();
+        } finally {
+            redisTemplate.delete(legacyKey);
+        }
+    }
+
+    @Test
+    @DisplayName("잠금 해제 - reset 후 잠금 없음, login:unlock 메시지를 받은 다른 파드의 로컬 잠금도 삭제")
+    void resetUnlocksAccount() {
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            loginAttemptStore.recordFailure(EMAIL);
+        }
+        assertThat(loginAttemptStore.isLocked(EMAIL)).isTrue();
+
+        loginAttemptStore.reset(EMAIL.toUpperCase());
+        assertThat(loginAttemptStore.isLocked(EMAIL)).isFalse();
+        assertThat(redisTemplate.hasKey(RedisKeyConstants.LOGIN_ATTEMPT_PREFIX + EMAIL)).isFalse();
+
+        // 다른 파드
+        AccountLockCache otherPod = new AccountLockCache(null, new SimpleMeterRegistry(), 1000);
+        otherPod.put(EMAIL, TimeUnit.MINUTES.toMillis(10));
+        otherPod.onMessage(new DefaultMessage(RedisKeyConstants.LOGIN_UNLOCK_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+        assertThat(otherPod.isLocked(EMAIL)).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.domain.model.MemberLoginInfo;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.ReplicaLagGuard;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.MemberLoginCache;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 회원 정보 캐시 - 수정일자 확인 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberLoginCacheTest {
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private RedisSessionUtil redisSessionUtil;
+
+    @Mock
+    private ReplicaLagGuard replicaLagGuard;
+
+    private MemberLoginCache memberLoginCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        memberLoginCache = new MemberLoginCache(redisSessionUtil, null, replicaLagGuard, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)); // Pub/Sub 구독 없음
+    }
+
+    @Test
+    @DisplayName("수정일자가 같으면 캐시 사용")
+    void currentEntryServedFromCache() {
+        memberLoginCache.get("member@example.com", this::load, member -> true);
+        MemberLoginInfo member = memberLoginCache.get("Member@Example.com ", this::load, cached -> cached.getUpdatedDate().equals(UPDATED));
+
+        assertThat(member.getPassword()).isEqualTo("password-1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 변경되어 수정일자가 다르면 다시 로드")
+    void staleEntryReloaded() {
+        memberLoginCache.get("member@example.com", this::load, member -> true);
+        MemberLoginInfo member = memberLoginCache.get("member@example.com", this::load, cached -> false);
+
+        assertThat(member.getPassword()).isEqualTo("password-2");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("evict - 다음 조회시 다시 로드")
+    void evictReloads() {
+        memberLoginCache.get("member@example.com", this::load, member -> true);
+        memberLoginCache.evict("member@example.com");
+        memberLoginCache.get("member@example.com", this::load, member -> true);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private MemberLoginInfo load(String email) {
+        return new MemberLoginInfo(1L, email, "password-" + loads.incrementAndGet(), "N", "N", "ROLE_USER", UPDATED);
+    }
+}
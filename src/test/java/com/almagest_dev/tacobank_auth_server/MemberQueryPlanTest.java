@@ -0,0 +1,116 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인증 조회 쿼리 실행 계획 회귀 테스트 (Flyway 마이그레이션 적용 후 EXPLAIN)
+ *  - MariaDB 컨테이너 사용 (Docker 없으면 건너뜀)
+ *  - 쿼리는 MemberRepository, RoleRepository 가 생성하는 SQL 과 같은 조건
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MemberQueryPlanTest {
+    private static final int MEMBERS = 2_000;
+
+    @Container
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11");
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword())
+                .table("flyway_schema_history_auth")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect();
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO member (email, password, name, birth, tel, mydata_linked, deleted, role_id) VALUES (?, 'pw', 'name', '900101', ?, 'N', ?, 1)")) {
+            for (int i = 0; i < MEMBERS; i++) {
+                insert.setString(1, "Member" + i + "@TacoBank.com");
+                insert.setString(2, String.format("010%08d", i));
+                insert.setString(3, (i % 10 == 0) ? "Y" : "N");
+                insert.addBatch();
+            }
+            insert.executeBatch();
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE member, role");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("이메일 조회 (로그인, 중복 확인) 는 정규화 이메일 인덱스 사용")
+    void emailLookupsUseNormalizedEmailIndex() throws SQLException {
+        assertThat(explainKey("SELECT * FROM member m WHERE m.email_normalized = LOWER(TRIM(' MEMBER42@tacobank.com')) AND m.deleted = 'N'"))
+                .isEqualTo("idx_member_email_normalized_deleted");
+        assertThat(explainKey("SELECT COUNT(m.id) > 0 FROM member m WHERE m.email_normalized = LOWER(TRIM('member42@tacobank.com')) AND m.deleted = 'N'"))
+                .isEqualTo("idx_member_email_normalized_deleted");
+    }
+
+    @Test
+    @DisplayName("전화번호 중복 확인은 전화번호 + 탈퇴 여부 인덱스 사용")
+    void telLookupUsesTelIndex() throws SQLException {
+        assertThat(explainKey("SELECT m.id FROM member m WHERE m.tel = '01000000042' AND m.deleted <> 'Y' LIMIT 1"))
+                .isEqualTo("idx_member_tel_deleted");
+    }
+
+    @Test
+    @DisplayName("권한 조회는 권한 이름 unique 인덱스 사용")
+    void roleLookupUsesUniqueIndex() throws SQLException {
+        assertThat(explainKey("SELECT * FROM role r WHERE r.role_name = 'ROLE_USER'"))
+                .isEqualTo("uk_role_role_name");
+    }
+
+    @Test
+    @DisplayName("정규화 이메일은 대소문자 무시, 탈퇴하지 않은 회원의 이메일은 중복 불가")
+    void activeEmailIsUnique() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT email_normalized FROM member WHERE email = 'Member1@TacoBank.com'")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString(1)).isEqualTo("member1@tacobank.com");
+            }
+
+            // 탈퇴 회원 (Member0) 과 같은 이메일은 가입 가능, 탈퇴하지 않은 회원 (Member1) 과 같은 이메일은 불가
+            statement.executeUpdate("INSERT INTO member (email, password, name, birth, tel, mydata_linked, deleted, role_id) "
+                    + "VALUES ('member0@tacobank.com', 'pw', 'name', '900101', '01099999990', 'N', 'N', 1)");
+            assertThatThrownBy(() -> statement.executeUpdate("INSERT INTO member (email, password, name, birth, tel, mydata_linked, deleted, role_id) "
+                    + "VALUES ('MEMBER1@tacobank.com', 'pw', 'name', '900101', '01099999991', 'N', 'N', 1)"))
+                    .isInstanceOf(SQLIntegrityConstraintViolationException.class);
+        }
+    }
+
+    /**
+     * EXPLAIN 결과의 사용 인덱스 (key)
+     */
+    private static String explainKey(String sql) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getString("type")).as("full scan: %s", sql).isNotEqualTo("ALL");
+            return rs.getString("key");
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword());
+    }
+}
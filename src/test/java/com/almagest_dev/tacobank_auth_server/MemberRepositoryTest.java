@@ -0,0 +1,75 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.domain.model.MemberLoginInfo;
+import com.almagest_dev.tacobank_auth_server.auth.domain.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 조회 쿼리 테스트 (Flyway 마이그레이션 적용 후 조회)
+ *  - MariaDB 컨테이너 사용 (Docker 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "PROFILE=test", showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MemberRepositoryTest {
+    private static final String INSERT_MEMBER = "INSERT INTO member (email, password, name, birth, tel, mydata_linked, deleted, role_id) "
+            + "VALUES (?, ?, 'name', '900101', ?, 'N', ?, 1)";
+
+    @Container
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+    }
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 탈퇴 후 같은 이메일로 다시 가입한 회원
+        jdbcTemplate.update(INSERT_MEMBER, "rejoin@tacobank.com", "withdrawnPassword", "01011110000", "Y");
+        jdbcTemplate.update(INSERT_MEMBER, "Rejoin@TacoBank.com", "activePassword", "01011110001", "N");
+
+        // 탈퇴만 한 회원
+        jdbcTemplate.update(INSERT_MEMBER, "withdrawn@tacobank.com", "withdrawnPassword", "01022220000", "Y");
+    }
+
+    @Test
+    @DisplayName("로그인 회원 조회 - 탈퇴 후 다시 가입한 이메일은 탈퇴하지 않은 회원 1건")
+    void findLoginInfoReturnsActiveMemberOfRejoinedEmail() {
+        MemberLoginInfo member = memberRepository.findLoginInfoByEmail(" REJOIN@tacobank.com").orElseThrow();
+
+        assertThat(member.getPassword()).isEqualTo("activePassword");
+        assertThat(member.getDeleted()).isEqualTo("N");
+        assertThat(member.getRoleName()).isEqualTo("ROLE_USER");
+        assertThat(memberRepository.findUpdatedDateById(member.getMemberId())).contains(member.getUpdatedDate());
+        assertThat(memberRepository.findByEmail("rejoin@tacobank.com").orElseThrow().getPassword()).isEqualTo("activePassword");
+    }
+
+    @Test
+    @DisplayName("로그인 회원 조회 - 탈퇴한 회원만 있는 이메일은 조회되지 않음")
+    void findLoginInfoIgnoresWithdrawnMember() {
+        assertThat(memberRepository.findLoginInfoByEmail("withdrawn@tacobank.com")).isEmpty();
+        assertThat(memberRepository.findByEmail("withdrawn@tacobank.com")).isEmpty();
+    }
+}
@@ -0,0 +1,167 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.LoginAttemptStore;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RefreshTokenStore;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.CustomAuthenticationFilter;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication.JwtProvider;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.BoundedPasswordEncoder;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.PasswordHashingExecutor;
+import com.almagest_dev.tacobank_auth_server.common.exception.GlobalExceptionHandler;
+import com.almagest_dev.tacobank_auth_server.common.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비밀번호 해시 실행기 (Bulkhead) 거부 & 503 응답 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PasswordHashingExecutorTest {
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(2);
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private LoginAttemptStore loginAttemptStore;
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열 초과 - 즉시 거부 & Retry-After")
+    void rejectWhenQueueFull() throws InterruptedException {
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(10), RETRY_AFTER);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // 스레드 1개 실행 중, 대기열 1개 사용 중
+        CompletableFuture.runAsync(() -> executor.execute(() -> {
+            started.countDown();
+            return awaitRelease();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> executor.execute(() -> true));
+        awaitQueueSize(1);
+
+        assertThatThrownBy(() -> executor.execute(() -> true))
+                .isInstanceOfSatisfying(PasswordHashingRejectedException.class,
+                        ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(RETRY_AFTER.toSeconds()));
+        assertThat(meterRegistry.counter("auth.password.hashing.rejected", "reason", "queue-full").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 - 거부")
+    void rejectWhenMaxWaitExceeded() {
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofMillis(50), RETRY_AFTER);
+
+        assertThatThrownBy(() -> executor.execute(this::awaitRelease))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(meterRegistry.counter("auth.password.hashing.rejected", "reason", "timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해시, 검증은 전용 스레드에서 실행")
+    void encoderRunsOnHashingThread() {
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(10), RETRY_AFTER);
+        PasswordEncoder delegate = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return Thread.currentThread().getName();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return Thread.currentThread().getName().startsWith(encodedPassword);
+            }
+        };
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(delegate, executor);
+
+        assertThat(passwordEncoder.encode("password")).startsWith("password-hashing-");
+        assertThat(passwordEncoder.matches("password", "password-hashing-")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그인 - 비밀번호 검증 거부시 503 & Retry-After, 실패 횟수 증가 없음")
+    void loginRejectedWith503() throws Exception {
+        when(loginAttemptStore.isLockedAsync(anyString())).thenReturn(CompletableFuture.completedFuture(false));
+        when(authenticationManager.authenticate(any()))
+                .thenThrow(new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER.toSeconds()));
+        CustomAuthenticationFilter filter = new CustomAuthenticationFilter("/taco/auth/login", authenticationManager, jwtProvider, loginAttemptStore, refreshTokenStore);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/taco/auth/login");
+        request.setContentType("application/json");
+        request.setContent("{\"email\":\"test@example.com\",\"password\":\"password\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(filter.attemptAuthentication(request, response)).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        verify(loginAttemptStore, never()).recordFailure(anyString());
+    }
+
+    @Test
+    @DisplayName("회원가입 등 - 예외 처리기에서 503 & Retry-After")
+    void exceptionHandlerReturns503() {
+        ResponseEntity<?> response = new GlobalExceptionHandler().handlePasswordHashingRejectedException(
+                new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER.toSeconds()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    }
+
+    private boolean awaitRelease() {
+        try {
+            return release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitQueueSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hashing.queue").gauge().value() < size) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
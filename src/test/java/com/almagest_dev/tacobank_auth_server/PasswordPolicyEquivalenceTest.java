@@ -0,0 +1,111 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.PasswordPolicy;
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.PasswordRule;
+import com.almagest_dev.tacobank_auth_server.auth.domain.policy.PasswordViolations;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PasswordPolicy (단일 순회) 와 변경 전 정규식 구현 (LegacyPasswordValidator) 결과 비교
+ */
+class PasswordPolicyEquivalenceTest {
+    private static final int MIN_LENGTH = 8;
+    private static final String ALPHABET = "aZk019234567789!@_#- 한\t";
+    private static final String[] BIRTHS = {"900101", "1990-01-01", "19", "1", "", "  ", "abc", null};
+    private static final String[] TELS = {"01012345678", "010-1234-5678", "7", "", " ", "tel", null};
+
+    private final PasswordPolicy policy = PasswordPolicy.standard(MIN_LENGTH);
+
+    @Test
+    @DisplayName("무작위 입력에서 첫 위반 메시지가 기존 구현과 동일")
+    void firstViolationMatchesLegacy() {
+        Random random = new Random(20);
+
+        for (int i = 0; i < 200_000; i++) {
+            String password = randomPassword(random);
+            String birth = BIRTHS[random.nextInt(BIRTHS.length)];
+            String tel = TELS[random.nextInt(TELS.length)];
+
+            assertThat(firstMessage(password, birth, tel))
+                    .as("password=[%s], birth=[%s], tel=[%s]", password, birth, tel)
+                    .isEqualTo(legacyMessage(password, birth, tel));
+        }
+    }
+
+    @Test
+    @DisplayName("경계 입력에서 첫 위반 메시지가 기존 구현과 동일")
+    void edgeCasesMatchLegacy() {
+        String[] passwords = {null, "", "abcdefg", "abcdefg!", "abcdef1!", "abc111d!", "abc123d!", "abc321d!",
+                "abc135d!", "ab900d1!", "ab0101d!", "a1234567!", "a0101234!", "a!b@c_d1", "a!b@c_d1 ", "a!b@c_d1\n"};
+
+        for (String password : passwords) {
+            for (String birth : BIRTHS) {
+                for (String tel : TELS) {
+                    assertThat(firstMessage(password, birth, tel))
+                            .as("password=[%s], birth=[%s], tel=[%s]", password, birth, tel)
+                            .isEqualTo(legacyMessage(password, birth, tel));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("규칙별 결과가 기존 구현과 동일 (개행 없는 입력)")
+    void eachRuleMatchesLegacy() {
+        Random random = new Random(21);
+
+        for (int i = 0; i < 100_000; i++) {
+            String password = randomPassword(random).replace('\n', ' ');
+            PasswordViolations violations = policy.validate(password, "900101", "01012345678");
+
+            assertThat(violations.contains(PasswordRule.MIN_LENGTH)).isEqualTo(!LegacyPasswordValidator.isValidLength(password, MIN_LENGTH));
+            assertThat(violations.contains(PasswordRule.ALLOWED_CHARACTERS)).isEqualTo(!LegacyPasswordValidator.containsAllowedCharacters(password));
+            assertThat(violations.contains(PasswordRule.NO_PERSONAL_INFO)).isEqualTo(LegacyPasswordValidator.containsSensitiveInfo(password, "900101", "01012345678"));
+            assertThat(violations.contains(PasswordRule.REQUIRED_TYPES)).isEqualTo(!LegacyPasswordValidator.containsRequiredTypes(password));
+            assertThat(violations.contains(PasswordRule.NO_REPEATED_DIGITS)).isEqualTo(LegacyPasswordValidator.hasRepeatedNumbers(password));
+            assertThat(violations.contains(PasswordRule.NO_SEQUENTIAL_DIGITS)).isEqualTo(LegacyPasswordValidator.hasSequentialNumbers(password));
+        }
+    }
+
+    @Test
+    @DisplayName("위반 규칙 전체를 우선순위 순서로 반환")
+    void returnsAllViolations() {
+        PasswordViolations violations = policy.validate("a111#", "900101", "01012345678");
+
+        assertThat(violations.rules()).containsExactly(
+                PasswordRule.MIN_LENGTH, PasswordRule.ALLOWED_CHARACTERS, PasswordRule.REQUIRED_TYPES, PasswordRule.NO_REPEATED_DIGITS);
+        assertThat(violations.messages()).first().isEqualTo("비밀번호는 최소 8자 이상이어야 합니다.");
+        assertThat(policy.validate("securePassword1!", "900101", "01012345678").isValid()).isTrue();
+    }
+
+    private String firstMessage(String password, String birth, String tel) {
+        PasswordViolations violations = policy.validate(password, birth, tel);
+        return violations.isValid() ? null : violations.first().message(MIN_LENGTH);
+    }
+
+    private static String legacyMessage(String password, String birth, String tel) {
+        try {
+            LegacyPasswordValidator.validatePassword(password, MIN_LENGTH, birth, tel);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        } catch (StringIndexOutOfBoundsException e) {
+            // 기존 구현: 생년월일 숫자가 2자리 미만이면 예외, PasswordPolicy 는 개인정보 위반으로 처리
+            return PasswordRule.NO_PERSONAL_INFO.message(MIN_LENGTH);
+        }
+    }
+
+    private static String randomPassword(Random random) {
+        int length = random.nextInt(14);
+        StringBuilder password = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            password.append(random.nextInt(20) == 0 ? '\n' : ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return password.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.config.ReadReplicaRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica0Connection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+
+    private DataSource replica1;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica0 = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica0.getConnection()).thenReturn(replica0Connection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replica0, replica1), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션이 아니면 Primary")
+    void writesUsePrimary() throws SQLException {
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 Replica 에 순서대로 분배")
+    void readOnlyTransactionsUseReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(routingDataSource.getConnection(), routingDataSource.getConnection(), routingDataSource.getConnection()))
+                .containsExactly(replica0Connection, replica1Connection, replica0Connection);
+    }
+
+    @Test
+    @DisplayName("usePrimary 안에서는 읽기 전용이어도 Primary")
+    void usePrimaryOverridesReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection connection = ReadReplicaRoutingDataSource.usePrimary(() -> {
+            try {
+                return routingDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Replica 연결 실패시 Primary")
+    void failsOverToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica1.getConnection()).thenThrow(new SQLTransientConnectionException("replica down"));
+
+        routingDataSource.getConnection(); // replica-0
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+}
@@ -0,0 +1,51 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.common.util.RebuildableBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RebuildableBloomFilterTest {
+
+    @Test
+    @DisplayName("생성 전에는 항상 있을 수 있음")
+    void mightContainBeforeBuilt() {
+        RebuildableBloomFilter filter = new RebuildableBloomFilter(1000, 0.001);
+
+        assertThat(filter.isBuilt()).isFalse();
+        assertThat(filter.mightContain("value")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재생성 중 추가된 값은 교체 후에도 유지")
+    void putDuringRebuildSurvivesSwap() {
+        RebuildableBloomFilter filter = new RebuildableBloomFilter(1000, 0.001);
+
+        filter.rebuild(next -> {
+            next.put("loaded");
+            filter.put("added-during-rebuild");
+        });
+
+        assertThat(filter.isBuilt()).isTrue();
+        assertThat(filter.mightContain("loaded")).isTrue();
+        assertThat(filter.mightContain("added-during-rebuild")).isTrue();
+        assertThat(filter.mightContain("missing")).isFalse();
+    }
+
+    @Test
+    @DisplayName("재생성 실패시 기존 필터 유지")
+    void failedRebuildKeepsCurrentFilter() {
+        RebuildableBloomFilter filter = new RebuildableBloomFilter(1000, 0.001);
+        filter.rebuild(next -> next.put("loaded"));
+
+        assertThatThrownBy(() -> filter.rebuild(next -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(filter.mightContain("loaded")).isTrue();
+        filter.put("added-after-failure");
+        assertThat(filter.mightContain("added-after-failure")).isTrue();
+    }
+}
@@ -0,0 +1,71 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import com.almagest_dev.tacobank_auth_server.common.util.SessionEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Circuit Breaker Open 상태 - 모든 동기 호출은 Redis 호출 없이 503
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisSessionUtilCircuitBreakerTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ReactiveStringRedisTemplate reactiveRedisTemplate;
+
+    private RedisSessionUtil redisSessionUtil;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("redis");
+        circuitBreaker.transitionToOpenState();
+        redisSessionUtil = new RedisSessionUtil(redisTemplate, new ObjectMapper(), reactiveRedisTemplate, circuitBreaker);
+    }
+
+    @Test
+    @DisplayName("일괄 조회, 저장, 삭제, 증분, 발행, SCAN - 503")
+    void openCircuitRejectsEveryCall() {
+        assertUnavailable(() -> redisSessionUtil.publish("channel", "message"));
+        assertUnavailable(() -> redisSessionUtil.scanKeys("key:*", key -> { }));
+        assertUnavailable(() -> redisSessionUtil.updateSessionData("key", "value", 1, TimeUnit.MINUTES, false));
+        assertUnavailable(() -> redisSessionUtil.multiGet(List.of("key")));
+        assertUnavailable(() -> redisSessionUtil.storeAllSessionData(List.of(new SessionEntry("key", "value", Duration.ofMinutes(1)))));
+        assertUnavailable(() -> redisSessionUtil.updateAllSessionData(Map.of("key", "value")));
+        assertUnavailable(() -> redisSessionUtil.deleteKeys(List.of("key")));
+        assertUnavailable(() -> redisSessionUtil.cleanupRedisKeys("Test", "session", "key:"));
+        assertUnavailable(() -> redisSessionUtil.incrementAll(Map.of("key", 1L), 1, TimeUnit.MINUTES));
+        assertUnavailable(() -> redisSessionUtil.getRawSessionData("key"));
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private static void assertUnavailable(ThrowingCallable call) {
+        assertThatThrownBy(call)
+                .isInstanceOfSatisfying(RedisSessionException.class,
+                        ex -> assertThat(ex.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+}
@@ -0,0 +1,94 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RefreshTokenStore;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RotatedRefreshToken;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.TokenRevocationEpoch;
+import com.almagest_dev.tacobank_auth_server.common.exception.InvalidTokenException;
+import com.almagest_dev.tacobank_auth_server.common.exception.RefreshTokenAlreadyRotatedException;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisDegradedMode;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리프레시 토큰 교체 & 재사용 감지 테스트 (Redis 필요)
+ *  - 실행: REDIS_HOST=localhost ./gradlew test --tests RefreshTokenStoreTest
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RefreshTokenStoreTest {
+    private static final Long MEMBER_ID = 1_000_001L;
+    private static final String EMAIL = "refresh-test@tacobank.com";
+    private static final Duration REUSE_GRACE = Duration.ofMillis(500);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisSessionUtil redisSessionUtil;
+    private static RefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisSessionUtil = new RedisSessionUtil(redisTemplate, new ObjectMapper(), new ReactiveStringRedisTemplate(connectionFactory), CircuitBreaker.ofDefaults("redis"));
+        TokenRevocationEpoch tokenRevocationEpoch = new TokenRevocationEpoch(redisSessionUtil, null, new RedisDegradedMode(false, new SimpleMeterRegistry()),
+                new SimpleMeterRegistry(), 100, Duration.ofSeconds(1), TimeUnit.MINUTES.toMillis(10), TimeUnit.HOURS.toMillis(12)); // Pub/Sub 구독 없음
+        refreshTokenStore = new RefreshTokenStore(redisSessionUtil, tokenRevocationEpoch, TimeUnit.MINUTES.toMillis(30), TimeUnit.HOURS.toMillis(12), REUSE_GRACE);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        redisSessionUtil.deleteKey("token:epoch:" + MEMBER_ID);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("동시 세션 연장 - 직전 토큰은 허용 시간 이내면 409, 패밀리 유지")
+    void concurrentRotationKeepsFamily() {
+        String issued = refreshTokenStore.issue(MEMBER_ID, EMAIL);
+        RotatedRefreshToken rotated = refreshTokenStore.rotate(issued);
+
+        // 같은 토큰으로 동시에 보낸 요청 (다른 탭, 재시도)
+        assertThatThrownBy(() -> refreshTokenStore.rotate(issued))
+                .isInstanceOf(RefreshTokenAlreadyRotatedException.class);
+
+        // 먼저 처리된 요청의 새 토큰은 계속 사용 가능
+        RotatedRefreshToken next = refreshTokenStore.rotate(rotated.refreshToken());
+        assertThat(next.memberId()).isEqualTo(MEMBER_ID);
+        assertThat(next.email()).isEqualTo(EMAIL);
+        refreshTokenStore.revoke(next.refreshToken());
+    }
+
+    @Test
+    @DisplayName("재사용 감지 - 허용 시간이 지난 직전 토큰, 두 번 이전 토큰은 패밀리 삭제")
+    void staleTokenRevokesFamily() throws InterruptedException {
+        String issued = refreshTokenStore.issue(MEMBER_ID, EMAIL);
+        RotatedRefreshToken rotated = refreshTokenStore.rotate(issued);
+        Thread.sleep(REUSE_GRACE.toMillis() + 100);
+
+        assertThatThrownBy(() -> refreshTokenStore.rotate(issued))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> refreshTokenStore.rotate(rotated.refreshToken()))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("세션이 만료되었습니다");
+    }
+}
@@ -0,0 +1,65 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RegisteredMemberFilter;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.ReplicaLagGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagGuardTest {
+
+    @Mock
+    private RegisteredMemberFilter registeredMemberFilter;
+
+    private ReplicaLagGuard replicaLagGuard;
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        replicaLagGuard = new ReplicaLagGuard(registeredMemberFilter, new SimpleMeterRegistry(), "jdbc:mariadb://replica:3306/tacobank", Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Replica 에 없고 가입 회원 필터에도 없는 이메일 - Primary 재조회 없음")
+    void missNotInFilterSkipsPrimary() {
+        when(registeredMemberFilter.mightContainEmail("unknown@example.com")).thenReturn(false);
+
+        assertThat(replicaLagGuard.findByEmail("unknown@example.com", this::emptyQuery)).isEmpty();
+        assertThat(queries.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Replica 에 없지만 가입 회원 필터에 있는 이메일 - Primary 재조회")
+    void missInFilterRetriesOnPrimary() {
+        when(registeredMemberFilter.mightContainEmail("new@example.com")).thenReturn(true);
+
+        replicaLagGuard.findByEmail("new@example.com", this::emptyQuery);
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최근 변경된 회원 - 필터 확인 없이 Primary 조회")
+    void recentWriteUsesPrimary() {
+        replicaLagGuard.markWritten("Changed@Example.com ");
+
+        replicaLagGuard.findByEmail("changed@example.com", this::emptyQuery);
+        assertThat(queries.get()).isEqualTo(1);
+    }
+
+    private Optional<String> emptyQuery() {
+        queries.incrementAndGet();
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,82 @@
+package com.almagest_dev.tacobank_auth_server;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.TokenRevocationEpoch;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisDegradedMode;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationEpochTest {
+    private static final Long MEMBER_ID = 1L;
+    private static final long ACCESS_TOKEN_EXPIRATION = TimeUnit.MINUTES.toMillis(10);
+    private static final long REFRESH_MAX_LIFETIME = TimeUnit.HOURS.toMillis(12);
+
+    @Mock
+    private RedisSessionUtil redisSessionUtil;
+
+    private TokenRevocationEpoch tokenRevocationEpoch;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationEpoch = new TokenRevocationEpoch(redisSessionUtil, null, new RedisDegradedMode(false, new SimpleMeterRegistry()),
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), ACCESS_TOKEN_EXPIRATION, REFRESH_MAX_LIFETIME); // Pub/Sub 구독 없음
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 - 무효화 시각 이전 토큰은 무효, 이후 발급된 토큰은 같은 초라도 유효")
+    void revokeAllComparesMillis() {
+        long before = System.currentTimeMillis();
+        tokenRevocationEpoch.revokeAll(MEMBER_ID);
+        long epochMillis = storedEpoch();
+
+        // 무효화 직전, 무효화 시각에 발급된 토큰
+        assertThat(tokenRevocationEpoch.isRevoked(MEMBER_ID, before)).isTrue();
+        assertThat(tokenRevocationEpoch.isRevoked(MEMBER_ID, epochMillis)).isTrue();
+
+        // 무효화 이후 발급된 토큰 (재로그인)
+        assertThat(tokenRevocationEpoch.isRevoked(MEMBER_ID, epochMillis + 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 버전의 초 단위 epoch - 같은 초에 발급된 토큰까지 무효")
+    void legacySecondsEpochCoversWholeSecond() {
+        long epochSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        when(redisSessionUtil.getValueIfExistsAsync("token:epoch:" + MEMBER_ID))
+                .thenReturn(CompletableFuture.completedFuture(String.valueOf(epochSeconds)));
+
+        assertThat(tokenRevocationEpoch.isRevoked(MEMBER_ID, TimeUnit.SECONDS.toMillis(epochSeconds) + 999)).isTrue();
+        assertThat(tokenRevocationEpoch.isRevoked(MEMBER_ID, TimeUnit.SECONDS.toMillis(epochSeconds + 1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 - epoch 는 리프레시 토큰 최대 수명 동안 유지")
+    void revokeAllKeepsEpochForRefreshMaxLifetime() {
+        tokenRevocationEpoch.revokeAll(MEMBER_ID);
+
+        verify(redisSessionUtil).storeSessionData(eq("token:epoch:" + MEMBER_ID), anyString(), eq(REFRESH_MAX_LIFETIME), eq(TimeUnit.MILLISECONDS));
+    }
+
+    private long storedEpoch() {
+        ArgumentCaptor<String> epoch = ArgumentCaptor.forClass(String.class);
+        verify(redisSessionUtil).storeSessionData(eq("token:epoch:" + MEMBER_ID), epoch.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        return Long.parseLong(epoch.getValue());
+    }
+}
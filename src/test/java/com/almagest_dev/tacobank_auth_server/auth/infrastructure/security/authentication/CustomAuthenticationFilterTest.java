@@ -0,0 +1,83 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.authentication;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.LoginAttempt;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.LoginAttemptStore;
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.persistence.RefreshTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 계정 잠금 안내 메시지 - 설정 (login.attempt.max-failures, lock-duration) & 남은 잠금 시간 기준
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomAuthenticationFilterTest {
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private LoginAttemptStore loginAttemptStore;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    private CustomAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CustomAuthenticationFilter("/taco/auth/login", authenticationManager, jwtProvider, loginAttemptStore, refreshTokenStore);
+    }
+
+    @Test
+    @DisplayName("잠긴 계정 - 잠금 시간 설정값으로 안내")
+    void lockedAccountMessageUsesLockDuration() throws Exception {
+        when(loginAttemptStore.isLockedAsync(EMAIL)).thenReturn(CompletableFuture.completedFuture(true));
+        when(loginAttemptStore.getLockDuration()).thenReturn(Duration.ofMinutes(30));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/taco/auth/login");
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + EMAIL + "\",\"password\":\"password\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(filter.attemptAuthentication(request, response)).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("30분 후 다시 시도");
+    }
+
+    @Test
+    @DisplayName("이번 실패로 잠김 - 최대 실패 횟수 & 남은 잠금 시간으로 안내")
+    void lockMessageUsesMaxFailuresAndRemainingTime() throws Exception {
+        when(loginAttemptStore.recordFailure(EMAIL)).thenReturn(new LoginAttempt(3, true, true, TimeUnit.MINUTES.toMillis(15)));
+        when(loginAttemptStore.getMaxFailures()).thenReturn(3);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/taco/auth/login");
+        request.setAttribute("email", EMAIL);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.unsuccessfulAuthentication(request, response, new BadCredentialsException("bad credentials"));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("3회 이상 실패하여 계정이 15분간 잠겼습니다");
+    }
+}
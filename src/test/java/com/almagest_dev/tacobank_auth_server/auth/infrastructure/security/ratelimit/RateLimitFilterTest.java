@@ -0,0 +1,122 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+    private static final String LOGIN_BODY = "{\"email\":\" Test@Example.com \",\"password\":\"password\"}";
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private RateLimitProperties properties;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setClientIpHeader("X-Forwarded-For");
+        rateLimitFilter = new RateLimitFilter(rateLimiter, properties, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("한도 초과 - 429 & Retry-After, 이후 필터 실행 안 함")
+    void rejectWithRetryAfter() throws Exception {
+        when(rateLimiter.tryAcquire(eq("login"), eq("ip"), anyString(), any())).thenReturn(RateLimitDecision.rejected(1500));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        rateLimitFilter.doFilter(loginRequest(), response, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("이메일 추출 후 이후 필터에서 요청 본문 다시 읽기")
+    void bodyCanBeReadAgain() throws Exception {
+        when(rateLimiter.tryAcquire(anyString(), anyString(), anyString(), any())).thenReturn(RateLimitDecision.ALLOWED);
+        AtomicReference<String> streamBody = new AtomicReference<>();
+        AtomicReference<String> readerBody = new AtomicReference<>();
+
+        rateLimitFilter.doFilter(loginRequest(), new MockHttpServletResponse(), (request, response) -> {
+            streamBody.set(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            try (BufferedReader reader = request.getReader()) {
+                readerBody.set(reader.readLine());
+            }
+        });
+
+        verify(rateLimiter).tryAcquire(eq("login"), eq("email"), eq("test@example.com"), any());
+        assertThat(streamBody.get()).isEqualTo(LOGIN_BODY);
+        assertThat(readerBody.get()).isEqualTo(LOGIN_BODY);
+    }
+
+    @Test
+    @DisplayName("비동기 읽기 - ReadListener 에 즉시 통지")
+    void readListenerIsNotified() throws Exception {
+        ServletInputStream inputStream = new CachedBodyHttpServletRequest(loginRequest(), LOGIN_BODY.getBytes(StandardCharsets.UTF_8)).getInputStream();
+        ReadListener readListener = mock(ReadListener.class);
+
+        inputStream.setReadListener(readListener);
+
+        var order = inOrder(readListener);
+        order.verify(readListener).onDataAvailable();
+        order.verify(readListener).onAllDataRead();
+    }
+
+    @Test
+    @DisplayName("클라이언트 IP - 오른쪽에서 신뢰하는 프록시 수 번째 값")
+    void clientIpFromTrustedProxy() throws Exception {
+        when(rateLimiter.tryAcquire(anyString(), anyString(), anyString(), any())).thenReturn(RateLimitDecision.ALLOWED);
+
+        rateLimitFilter.doFilter(loginRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire(eq("login"), eq("ip"), eq("2.2.2.2"), any());
+    }
+
+    @Test
+    @DisplayName("클라이언트 IP - 신뢰하는 프록시 수 0 이면 헤더 무시")
+    void clientIpWithoutTrustedProxy() throws Exception {
+        properties.setTrustedProxyCount(0);
+        when(rateLimiter.tryAcquire(anyString(), anyString(), anyString(), any())).thenReturn(RateLimitDecision.ALLOWED);
+
+        rateLimitFilter.doFilter(loginRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire(eq("login"), eq("ip"), eq("10.0.0.1"), any());
+    }
+
+    private static MockHttpServletRequest loginRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/taco/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", "1.1.1.1, 2.2.2.2");
+        request.setContentType("application/json");
+        request.setContent(LOGIN_BODY.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
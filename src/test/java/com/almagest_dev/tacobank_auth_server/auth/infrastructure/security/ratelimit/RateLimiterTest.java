@@ -0,0 +1,92 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit;
+
+import com.almagest_dev.tacobank_auth_server.common.exception.RedisSessionException;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private RedisSessionUtil redisSessionUtil;
+
+    private MeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(redisSessionUtil, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("파드별 토큰 버킷 초과시 거부")
+    void rejectsWhenLocalBucketEmpty() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(2, 0, 0, Duration.ofMinutes(1));
+
+        assertThat(rateLimiter.tryAcquire("login", "ip", "1.1.1.1", limit).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("login", "ip", "1.1.1.1", limit).allowed()).isTrue();
+
+        RateLimitDecision decision = rateLimiter.tryAcquire("login", "ip", "1.1.1.1", limit);
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfterSeconds()).isEqualTo(TimeUnit.HOURS.toSeconds(1)); // 충전 없음 - 최대 1시간
+
+        // 다른 IP 는 별도 버킷
+        assertThat(rateLimiter.tryAcquire("login", "ip", "2.2.2.2", limit).allowed()).isTrue();
+        assertThat(meterRegistry.counter("auth.rate-limit", "endpoint", "login", "dimension", "ip", "result", "local").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 파드 합산 한도 초과시 윈도우 종료까지 차단")
+    void blocksWhenGlobalLimitExceeded() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(100, 0, 3, Duration.ofMinutes(1));
+        rateLimiter.tryAcquire("signup", "email", "test@example.com", limit);
+        rateLimiter.tryAcquire("signup", "email", "test@example.com", limit);
+
+        // 다른 파드 사용량 포함 합계 10
+        when(redisSessionUtil.incrementAll(anyMap(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenAnswer(invocation -> {
+            Map<String, Long> totals = new HashMap<>();
+            invocation.<Map<String, Long>>getArgument(0).keySet().forEach(key -> totals.put(key, 10L));
+            return totals;
+        });
+        rateLimiter.synchronize();
+
+        RateLimitDecision decision = rateLimiter.tryAcquire("signup", "email", "test@example.com", limit);
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfterSeconds()).isBetween(1L, 60L);
+        assertThat(meterRegistry.counter("auth.rate-limit", "endpoint", "signup", "dimension", "email", "result", "global").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애시 로컬 토큰 버킷만 적용")
+    void redisFailureFallsBackToLocal() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(100, 0, 1, Duration.ofMinutes(1));
+        rateLimiter.tryAcquire("email", "ip", "1.1.1.1", limit);
+        rateLimiter.tryAcquire("email", "ip", "1.1.1.1", limit);
+
+        when(redisSessionUtil.incrementAll(anyMap(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenThrow(new RedisSessionException("Redis 증분 또는 TTL 설정 중 오류 발생", HttpStatus.INTERNAL_SERVER_ERROR));
+        rateLimiter.synchronize();
+
+        assertThat(rateLimiter.tryAcquire("email", "ip", "1.1.1.1", limit).allowed()).isTrue();
+    }
+}
@@ -0,0 +1,41 @@
+package com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("최대 버스트까지 사용 후 대기 시간 반환")
+    void consumeUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1.0);
+
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+
+        // 다음 토큰까지 최대 1초
+        assertThat(bucket.tryConsume()).isPositive().isLessThanOrEqualTo(1_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰 충전")
+    void refillOverTime() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 1000.0); // 1ms 당 1개
+
+        assertThat(bucket.tryConsume()).isZero();
+        Thread.sleep(10);
+        assertThat(bucket.tryConsume()).isZero();
+    }
+
+    @Test
+    @DisplayName("충전량 0 - 소진 후 계속 거부")
+    void noRefill() {
+        TokenBucket bucket = new TokenBucket(1, 0);
+
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isEqualTo(Long.MAX_VALUE);
+    }
+}
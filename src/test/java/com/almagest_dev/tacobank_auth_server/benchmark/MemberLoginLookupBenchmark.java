@@ -0,0 +1,110 @@
+package com.almagest_dev.tacobank_auth_server.benchmark;
+
+import com.almagest_dev.tacobank_auth_server.auth.domain.model.Member;
+import com.almagest_dev.tacobank_auth_server.auth.domain.model.MemberLoginInfo;
+import com.almagest_dev.tacobank_auth_server.auth.domain.repository.MemberRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 회원 조회 - 엔티티 조회 (Member + Role EAGER) vs 프로젝션 조회 (MemberLoginInfo, 읽기 전용)
+ *  - MariaDB 컨테이너 사용 (Docker 필요), 호출별 지연 시간 (p50/p99) & 호출당 힙 할당량 비교
+ *  - 실행: ./gradlew benchmark --tests MemberLoginLookupBenchmark
+ *  - BENCHMARK_ITERATIONS: 반복 횟수 (기본 5000)
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "PROFILE=test", showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 운영과 같이 호출마다 트랜잭션 (테스트 트랜잭션 X)
+class MemberLoginLookupBenchmark {
+    private static final int ITERATIONS = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_ITERATIONS", "5000"));
+    private static final int WARMUP = 1000;
+    private static final String EMAIL = "benchmark@tacobank.com";
+
+    @Container
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+    }
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareEntityAndProjectionLookups() {
+        jdbcTemplate.update("INSERT INTO member (email, password, name, birth, tel, mydata_linked, transfer_pin, deleted, role_id) "
+                + "VALUES (?, '$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ01', 'name', '900101', '01012345678', 'Y', 'pin', 'N', 1)", EMAIL);
+
+        Result entity = measure(() -> {
+            Member member = memberRepository.findByEmail(EMAIL).orElseThrow();
+            return new MemberLoginInfo(member.getId(), member.getEmail(), member.getPassword(), member.getDeleted(), member.getMydataLinked(), member.getRole().getRoleName(), member.getUpdatedDate());
+        });
+        Result projection = measure(() -> memberRepository.findLoginInfoByEmail(EMAIL).orElseThrow());
+
+        System.out.printf("[로그인 회원 조회] iterations=%d (µs, bytes/호출)%n", ITERATIONS);
+        report("엔티티", entity);
+        report("프로젝션", projection);
+
+        assertThat(memberRepository.findLoginInfoByEmail(EMAIL).orElseThrow().getRoleName()).isEqualTo("ROLE_USER");
+    }
+
+    /**
+     * 호출별 지연 시간 (ns, 정렬됨) & 호출당 평균 할당량
+     */
+    private static Result measure(Supplier<MemberLoginInfo> lookup) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            lookup.get();
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            lookup.get();
+            latencies[i] = System.nanoTime() - start;
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Arrays.sort(latencies);
+        return new Result(latencies, allocated / ITERATIONS);
+    }
+
+    private static void report(String name, Result result) {
+        System.out.printf("  %-8s p50: %8.1f | p99: %8.1f | 할당: %8d bytes%n",
+                name, percentile(result.latencies(), 0.50), percentile(result.latencies(), 0.99), result.bytesPerCall());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000.0;
+    }
+
+    private record Result(long[] latencies, long bytesPerCall) {
+    }
+}
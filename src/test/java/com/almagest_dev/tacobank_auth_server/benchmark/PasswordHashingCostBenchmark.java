@@ -0,0 +1,39 @@
+package com.almagest_dev.tacobank_auth_server.benchmark;
+
+import com.almagest_dev.tacobank_auth_server.auth.infrastructure.security.password.BCryptCalibration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BCrypt strength 별 검증 시간 & 코어당 초당 검증 수
+ *  - 실행: ./gradlew benchmark --tests PasswordHashingCostBenchmark
+ *  - 파드와 같은 CPU 제한에서 실행해야 의미 있음 (예: docker run --cpus=0.25)
+ *  - BENCHMARK_MIN_COST / BENCHMARK_MAX_COST: 측정 범위 (기본 8 ~ 13), BENCHMARK_TARGET_MS: 목표 검증 시간 (기본 250)
+ */
+@Tag("benchmark")
+class PasswordHashingCostBenchmark {
+    private static final int MIN_COST = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_MIN_COST", "8"));
+    private static final int MAX_COST = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_MAX_COST", "13"));
+    private static final Duration TARGET = Duration.ofMillis(Long.parseLong(System.getenv().getOrDefault("BENCHMARK_TARGET_MS", "250")));
+    private static final int SAMPLES = 5;
+
+    @Test
+    void reportHashesPerSecondPerCore() {
+        System.out.printf("[BCrypt] availableProcessors=%d, samples=%d%n", Runtime.getRuntime().availableProcessors(), SAMPLES);
+
+        for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+            Duration elapsed = BCryptCalibration.measure(cost, SAMPLES);
+            double millis = elapsed.toNanos() / 1_000_000.0;
+            System.out.printf("  cost %2d: %9.1f ms / 검증 | %8.2f 검증/초/코어%n", cost, millis, 1000.0 / millis);
+        }
+
+        int selected = BCryptCalibration.calibrate(TARGET, MIN_COST, MAX_COST);
+        System.out.printf("  목표 %dms 이내 최대 cost: %d%n", TARGET.toMillis(), selected);
+
+        assertThat(selected).isBetween(MIN_COST, MAX_COST);
+    }
+}
@@ -0,0 +1,130 @@
+package com.almagest_dev.tacobank_auth_server.benchmark;
+
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import com.almagest_dev.tacobank_auth_server.common.util.SessionEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisSessionUtil 단건 반복 호출 vs 일괄(Pipeline) 호출 비교
+ *  - 실행: REDIS_HOST=localhost ./gradlew benchmark
+ *  - BENCHMARK_KEYS: 한 번에 처리할 Key 수 (기본 20), BENCHMARK_ITERATIONS: 반복 횟수 (기본 500)
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RedisSessionUtilBulkBenchmark {
+    private static final int KEYS = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_KEYS", "20"));
+    private static final int ITERATIONS = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_ITERATIONS", "500"));
+    private static final int WARMUP = 50;
+    private static final String PREFIX = "benchmark:session:";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static RedisSessionUtil redisSessionUtil;
+
+    @BeforeAll
+    static void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        configuration.setDatabase(Integer.parseInt(System.getenv().getOrDefault("REDIS_BENCHMARK_DB", "15")));
+
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisSessionUtil = new RedisSessionUtil(redisTemplate, new ObjectMapper(), new ReactiveStringRedisTemplate(connectionFactory), CircuitBreaker.ofDefaults("redis"));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        redisSessionUtil.deleteKeys(keys());
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void compareSingleKeyAndBulkOperations() {
+        List<String> keys = keys();
+        List<SessionEntry> entries = keys.stream().map(key -> new SessionEntry(key, "value", Duration.ofMinutes(5))).toList();
+        Map<String, String> updates = new LinkedHashMap<>();
+        keys.forEach(key -> updates.put(key, "updated"));
+
+        System.out.printf("[RedisSessionUtil] keys=%d, iterations=%d (평균 ms / 호출)%n", KEYS, ITERATIONS);
+
+        report("SET",
+                measure(() -> keys.forEach(key -> redisSessionUtil.storeSessionData(key, "value", 5, TimeUnit.MINUTES))),
+                measure(() -> redisSessionUtil.storeAllSessionData(entries)));
+
+        report("GET",
+                measure(() -> keys.forEach(redisSessionUtil::getValueIfExists)),
+                measure(() -> redisSessionUtil.multiGet(keys)));
+
+        // 기존 TTL 유지 업데이트: 변경 전 방식 (TTL 조회 후 SET, Key 당 2 RTT) vs SET XX KEEPTTL (Pipeline)
+        report("UPDATE (TTL 유지)",
+                measure(() -> keys.forEach(key -> {
+                    Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                    redisTemplate.opsForValue().set(key, "\"updated\"", ttl, TimeUnit.MILLISECONDS);
+                })),
+                measure(() -> redisSessionUtil.updateAllSessionData(updates)));
+
+        report("DEL",
+                measure(() -> {
+                    redisSessionUtil.storeAllSessionData(entries);
+                    keys.forEach(redisSessionUtil::deleteKey);
+                }) - measure(() -> redisSessionUtil.storeAllSessionData(entries)),
+                measure(() -> {
+                    redisSessionUtil.storeAllSessionData(entries);
+                    redisSessionUtil.deleteKeys(keys);
+                }) - measure(() -> redisSessionUtil.storeAllSessionData(entries)));
+
+        redisSessionUtil.storeAllSessionData(entries);
+        assertThat(redisSessionUtil.multiGet(keys)).containsOnly("value");
+        assertThat(redisSessionUtil.updateAllSessionData(updates)).isEqualTo(KEYS);
+        assertThat(redisTemplate.getExpire(keys.get(0), TimeUnit.SECONDS)).isPositive();
+    }
+
+    /**
+     * 평균 실행 시간 (ms)
+     */
+    private static double measure(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private static void report(String operation, double singleKeyMillis, double bulkMillis) {
+        System.out.printf("  %-18s 단건 x %d: %8.3f ms | 일괄: %8.3f ms | %.1fx%n",
+                operation, KEYS, singleKeyMillis, bulkMillis, singleKeyMillis / bulkMillis);
+    }
+
+    private static List<String> keys() {
+        List<String> keys = new ArrayList<>(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            keys.add(PREFIX + i);
+        }
+        return keys;
+    }
+}
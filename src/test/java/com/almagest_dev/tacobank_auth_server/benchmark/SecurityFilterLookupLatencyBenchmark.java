@@ -0,0 +1,122 @@
+package com.almagest_dev.tacobank_auth_server.benchmark;
+
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_auth_server.common.util.RedisSessionUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보안 필터 Redis 조회 지연 시간 비교 (순차 동기 조회 vs 동시 비동기 조회)
+ *  - 조회 대상: 블랙리스트(GET), 회원 토큰 무효화 epoch(GET), 계정 잠금 상태(Lua)
+ *  - 실행: REDIS_HOST=localhost ./gradlew benchmark
+ *  - BENCHMARK_ITERATIONS: 반복 횟수 (기본 5000)
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class SecurityFilterLookupLatencyBenchmark {
+    private static final int ITERATIONS = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_ITERATIONS", "5000"));
+    private static final int WARMUP = 500;
+    private static final String BLACKLIST_KEY = RedisKeyConstants.BLACKLIST_PREFIX + "benchmark-jti";
+    private static final String EPOCH_KEY = RedisKeyConstants.TOKEN_EPOCH_PREFIX + "0";
+    private static final String LOGIN_ATTEMPT_KEY = RedisKeyConstants.LOGIN_ATTEMPT_PREFIX + "benchmark@tacobank.com";
+    private static final RedisScript<Long> LOCK_STATUS_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/login_attempt_lock_status.lua"), Long.class);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisSessionUtil redisSessionUtil;
+
+    @BeforeAll
+    static void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        configuration.setDatabase(Integer.parseInt(System.getenv().getOrDefault("REDIS_BENCHMARK_DB", "15")));
+
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redisSessionUtil = new RedisSessionUtil(new StringRedisTemplate(connectionFactory), new ObjectMapper(), new ReactiveStringRedisTemplate(connectionFactory), CircuitBreaker.ofDefaults("redis"));
+
+        redisSessionUtil.storeSessionData(EPOCH_KEY, "1", 5, TimeUnit.MINUTES);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        redisSessionUtil.deleteKeys(List.of(BLACKLIST_KEY, EPOCH_KEY, LOGIN_ATTEMPT_KEY));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void compareSequentialAndConcurrentLookups() {
+        long[] sequential = measure(() -> {
+            boolean blacklisted = redisSessionUtil.getValueIfExists(BLACKLIST_KEY) != null;
+            boolean revoked = redisSessionUtil.getValueIfExists(EPOCH_KEY) != null;
+            boolean locked = redisSessionUtil.executeScript(LOCK_STATUS_SCRIPT, List.of(LOGIN_ATTEMPT_KEY)) > 0;
+            return blacklisted || revoked || locked;
+        });
+
+        long[] concurrent = measure(() -> {
+            CompletableFuture<String> blacklisted = redisSessionUtil.getValueIfExistsAsync(BLACKLIST_KEY);
+            CompletableFuture<String> revoked = redisSessionUtil.getValueIfExistsAsync(EPOCH_KEY);
+            CompletableFuture<Long> locked = redisSessionUtil.executeScriptAsync(LOCK_STATUS_SCRIPT, List.of(LOGIN_ATTEMPT_KEY));
+            return RedisSessionUtil.join(blacklisted) != null || RedisSessionUtil.join(revoked) != null || RedisSessionUtil.join(locked) > 0;
+        });
+
+        System.out.printf("[보안 필터 Redis 조회 3건] iterations=%d (µs)%n", ITERATIONS);
+        report("순차 (동기)", sequential);
+        report("동시 (비동기)", concurrent);
+
+        assertThat(RedisSessionUtil.join(redisSessionUtil.getValueIfExistsAsync(EPOCH_KEY))).isEqualTo("1");
+        assertThat(RedisSessionUtil.join(redisSessionUtil.executeScriptAsync(LOCK_STATUS_SCRIPT, List.of(LOGIN_ATTEMPT_KEY)))).isZero();
+    }
+
+    /**
+     * 호출별 지연 시간 (ns, 정렬됨)
+     */
+    private static long[] measure(Lookup lookup) {
+        for (int i = 0; i < WARMUP; i++) {
+            lookup.run();
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            lookup.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void report(String name, long[] latencies) {
+        System.out.printf("  %-12s p50: %8.1f | p99: %8.1f | max: %8.1f%n",
+                name, percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1_000.0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000.0;
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        boolean run();
+    }
+}
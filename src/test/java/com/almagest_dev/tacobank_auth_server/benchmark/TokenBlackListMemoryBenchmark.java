@@ -0,0 +1,138 @@
+package com.almagest_dev.tacobank_auth_server.benchmark;
+
+import com.almagest_dev.tacobank_auth_server.common.constants.RedisKeyConstants;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 블랙리스트 Redis 메모리 비교 (토큰 전체 Key vs jti Key)
+ *  - 실행: REDIS_HOST=localhost ./gradlew benchmark
+ *  - 빈 Redis (DB: REDIS_BENCHMARK_DB, 기본 15) 에서 실행
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class TokenBlackListMemoryBenchmark {
+    private static final int REVOCATIONS = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_REVOCATIONS", "100000"));
+    private static final int BATCH_SIZE = 1000;
+    private static final long TTL_SECONDS = 3600;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Key SIGNING_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        configuration.setDatabase(Integer.parseInt(System.getenv().getOrDefault("REDIS_BENCHMARK_DB", "15")));
+
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        flush();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void compareMemoryPerMillionRevocations() {
+        long fullTokenBytes = measure(i -> RedisKeyConstants.BLACKLIST_PREFIX + createToken(), "BLACKLISTED");
+        long jtiBytes = measure(i -> RedisKeyConstants.BLACKLIST_PREFIX + createTokenId(), "1");
+
+        System.out.printf("[TokenBlackList] revocations=%d%n", REVOCATIONS);
+        System.out.printf("  full token key : %,d bytes/key, %,.1f MB per 1M%n", fullTokenBytes / REVOCATIONS, perMillion(fullTokenBytes));
+        System.out.printf("  jti key        : %,d bytes/key, %,.1f MB per 1M%n", jtiBytes / REVOCATIONS, perMillion(jtiBytes));
+        System.out.printf("  reduction      : %.1f%%%n", 100.0 * (fullTokenBytes - jtiBytes) / fullTokenBytes);
+
+        assertThat(jtiBytes).isLessThan(fullTokenBytes);
+    }
+
+    /**
+     * Key 를 REVOCATIONS 개 저장한 뒤 used_memory 증가량 반환
+     */
+    private static long measure(IntFunction<String> keyGenerator, String value) {
+        flush();
+        long before = usedMemory();
+
+        for (int offset = 0; offset < REVOCATIONS; offset += BATCH_SIZE) {
+            int end = Math.min(offset + BATCH_SIZE, REVOCATIONS);
+            int start = offset;
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (int i = start; i < end; i++) {
+                    stringConnection.setEx(keyGenerator.apply(i), TTL_SECONDS, value);
+                }
+                return null;
+            });
+        }
+
+        return usedMemory() - before;
+    }
+
+    private static long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private static void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    private static double perMillion(long bytes) {
+        return bytes * (1_000_000.0 / REVOCATIONS) / (1024 * 1024);
+    }
+
+    /**
+     * jti 도입 전과 같은 형태의 토큰 (kid, subject, ROLES, memberId, iat, exp)
+     */
+    private static String createToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "2024-11-key-01")
+                .setSubject("member" + RANDOM.nextInt(1_000_000) + "@tacobank.com")
+                .claim("ROLES", List.of("ROLE_USER"))
+                .claim("memberId", (long) RANDOM.nextInt(1_000_000))
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + TTL_SECONDS * 1000))
+                .signWith(SIGNING_KEY, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    private static String createTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return BASE64_URL.encodeToString(bytes);
+    }
+}
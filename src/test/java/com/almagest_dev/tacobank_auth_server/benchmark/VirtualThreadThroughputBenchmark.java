@@ -0,0 +1,151 @@
+package com.almagest_dev.tacobank_auth_server.benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 블로킹 요청 처리 - 플랫폼 스레드 vs 가상 스레드 처리량 & 메모리 비교
+ *  - 요청 1건: Redis 조회 2회 (블랙리스트, epoch) + DB 조회 대기 (BENCHMARK_DB_LATENCY_MS, 기본 5ms)
+ *  - 플랫폼 스레드: Tomcat 기본 최대 스레드 수 (200) 고정 풀, 동시 요청 수만큼의 스레드
+ *  - 가상 스레드: 요청마다 가상 스레드 (spring.threads.virtual.enabled=true 와 동일한 방식)
+ *  - 실행: REDIS_HOST=localhost ./gradlew benchmark --tests VirtualThreadThroughputBenchmark
+ *  - BENCHMARK_CONCURRENCY: 동시 요청 수 (기본 2000), BENCHMARK_REQUESTS: 요청 수 (기본 40000)
+ *  - 메모리는 Linux 프로세스 RSS (/proc/self/status) 의 실행 전 대비 최대 증가량 (스레드 스택 포함)
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class VirtualThreadThroughputBenchmark {
+    private static final int CONCURRENCY = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_CONCURRENCY", "2000"));
+    private static final int REQUESTS = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_REQUESTS", "40000"));
+    private static final long DB_LATENCY_MS = Long.parseLong(System.getenv().getOrDefault("BENCHMARK_DB_LATENCY_MS", "5"));
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final String BLACKLIST_KEY = "benchmark:vt:blacklist";
+    private static final String EPOCH_KEY = "benchmark:vt:epoch";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        configuration.setDatabase(Integer.parseInt(System.getenv().getOrDefault("REDIS_BENCHMARK_DB", "15")));
+
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.opsForValue().set(EPOCH_KEY, "0", 5, TimeUnit.MINUTES);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        redisTemplate.delete(List.of(BLACKLIST_KEY, EPOCH_KEY));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        System.out.printf("[블로킹 요청 처리] concurrency=%d, requests=%d, db latency=%dms%n", CONCURRENCY, REQUESTS, DB_LATENCY_MS);
+
+        run("플랫폼 (200)", () -> Executors.newFixedThreadPool(TOMCAT_MAX_THREADS));
+        run("플랫폼 (" + CONCURRENCY + ")", () -> Executors.newFixedThreadPool(CONCURRENCY));
+        Result virtual = run("가상 스레드", Executors::newVirtualThreadPerTaskExecutor);
+
+        assertThat(virtual.completed()).isEqualTo(REQUESTS);
+    }
+
+    private static Result run(String name, Supplier<ExecutorService> executorFactory) throws Exception {
+        System.gc();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        long baselineRss = readRssKb();
+        AtomicLong peakRss = new AtomicLong(baselineRss);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakRss.accumulateAndGet(readRssKb(), Math::max), 0, 50, TimeUnit.MILLISECONDS);
+
+        Semaphore inFlight = new Semaphore(CONCURRENCY); // 동시 요청 수 제한 (클라이언트)
+        List<Future<Boolean>> futures = new ArrayList<>(REQUESTS);
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = executorFactory.get()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return handleRequest();
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        } // close(): 모든 요청 완료 대기
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        sampler.shutdownNow();
+
+        long completed = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.isDone() && !future.isCancelled()) completed++;
+        }
+
+        Result result = new Result(completed, completed / elapsedSeconds, threads.getPeakThreadCount(), (peakRss.get() - baselineRss) / 1024);
+        System.out.printf("  %-14s %8.0f req/s | 최대 플랫폼 스레드: %5d | RSS 증가: %5d MB%n",
+                name, result.throughput(), result.peakThreads(), result.rssGrowthMb());
+        return result;
+    }
+
+    /**
+     * 인증 요청 1건 (블로킹 I/O 만 포함)
+     */
+    private static boolean handleRequest() throws InterruptedException {
+        boolean blacklisted = redisTemplate.opsForValue().get(BLACKLIST_KEY) != null;
+        boolean revoked = redisTemplate.opsForValue().get(EPOCH_KEY) == null;
+        Thread.sleep(DB_LATENCY_MS); // 회원 조회 (Hikari/MariaDB) 대기
+        return !blacklisted && !revoked;
+    }
+
+    /**
+     * 현재 프로세스 RSS (KB), Linux 외 환경에서는 0
+     */
+    private static long readRssKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 지원하지 않는 환경
+        }
+        return 0;
+    }
+
+    private record Result(long completed, double throughput, int peakThreads, long rssGrowthMb) {
+    }
+}